@@ -0,0 +1,30 @@
+package com.example.springbatch.benchmark;
+
+import com.example.springbatch.SpringBatchDemoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ベンチマーク用にWebサーバーとSQLログを無効化したアプリケーションコンテキストを起動する。
+ * <p>
+ * JMHはフォークごとに新しいJVMを起動するため、インメモリH2データベースもフォークごとに初期化される。
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... additionalProperties) {
+        return new SpringApplicationBuilder(SpringBatchDemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.springbatch=WARN",
+                        "logging.level.org.springframework.jdbc=WARN")
+                .properties(additionalProperties)
+                .run();
+    }
+}
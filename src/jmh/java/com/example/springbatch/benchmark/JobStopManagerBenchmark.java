@@ -0,0 +1,73 @@
+package com.example.springbatch.benchmark;
+
+import com.example.springbatch.service.JobStopManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 停止フラグの設定・解除と競合する状態での {@link JobStopManager#shouldStop(Long)} のスループットを計測する。
+ * <p>
+ * 実行中Jobのループ内から頻繁に呼び出される想定のため、読み取り側のスレッド数を多くしている。
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobStopManagerBenchmark {
+
+    private static final int EXECUTION_COUNT = 1024;
+
+    private JobStopManager jobStopManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jobStopManager = new JobStopManager();
+        for (long executionId = 0; executionId < EXECUTION_COUNT; executionId++) {
+            jobStopManager.issueToken(executionId);
+            if (executionId % 2 == 0) {
+                jobStopManager.setStopFlag(executionId);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(7)
+    public boolean shouldStop() {
+        return jobStopManager.shouldStop(randomExecutionId());
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void toggleStopFlag() {
+        Long executionId = randomExecutionId();
+        if (jobStopManager.shouldStop(executionId)) {
+            // Job終了と次のJob開始に相当する
+            jobStopManager.clearStopFlag(executionId);
+            jobStopManager.issueToken(executionId);
+        } else {
+            jobStopManager.setStopFlag(executionId);
+        }
+    }
+
+    private Long randomExecutionId() {
+        return (long) ThreadLocalRandom.current().nextInt(EXECUTION_COUNT);
+    }
+}
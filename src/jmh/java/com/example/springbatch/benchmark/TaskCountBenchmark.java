@@ -0,0 +1,68 @@
+package com.example.springbatch.benchmark;
+
+import com.example.springbatch.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * タスク件数に対する {@link TaskRepository#countProcessed()} / {@link TaskRepository#countUnprocessed()} の
+ * 応答時間を計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class TaskCountBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public long rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskRepository taskRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskRepository = context.getBean(TaskRepository.class);
+
+        // 件数が多いため、エンティティ経由ではなくSQLで一括生成する
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM task");
+        jdbcTemplate.update("INSERT INTO task (id, task_name, priority, status, processed) "
+                + "SELECT X, CONCAT('Task-', X), MOD(X, 3) + 1, 'PENDING', MOD(X, 2) = 0 "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long countProcessed() {
+        return taskRepository.countProcessed();
+    }
+
+    @Benchmark
+    public long countUnprocessed() {
+        return taskRepository.countUnprocessed();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.springbatch.benchmark;
+
+import com.example.springbatch.item.TaskItemWriter;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskItemWriter} による1チャンク分のINSERT/UPDATEのスループット（件/秒）を計測する。
+ * <p>
+ * {@code jdbcBatchSize=1} はJDBCバッチを無効にした1件ずつの送信で、変更前の書き込み方式に相当する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskWriteBenchmark {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"1", "1000"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskItemWriter taskItemWriter;
+
+    private TaskRepository taskRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> updateTargetIds;
+
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                "app.batch.chunk.commit-interval=" + CHUNK_SIZE);
+        taskItemWriter = context.getBean(TaskItemWriter.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    /**
+     * 件数の増加で計測値が変わらないよう、イテレーションごとにテーブルを初期化して更新対象を作成する
+     */
+    @Setup(Level.Iteration)
+    public void resetTable() {
+        jdbcTemplate.execute("TRUNCATE TABLE task");
+        List<Task> tasks = newTasks();
+        transactionTemplate.executeWithoutResult(status -> taskItemWriter.write(new Chunk<>(tasks)));
+        updateTargetIds = tasks.stream().map(Task::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void insertChunk() {
+        List<Task> tasks = newTasks();
+        transactionTemplate.executeWithoutResult(status -> taskItemWriter.write(new Chunk<>(tasks)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void updateChunk() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Task> tasks = taskRepository.findAllById(updateTargetIds);
+            tasks.forEach(task -> task.setStatus("STATUS-" + sequence));
+            taskItemWriter.write(new Chunk<>(tasks));
+        });
+        sequence++;
+    }
+
+    private List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            tasks.add(new Task("Task-" + i, "ベンチマーク用タスク", (i % 3) + 1));
+        }
+        return tasks;
+    }
+}
@@ -2,13 +2,17 @@ package com.example.springbatch;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Batchサンプルアプリケーションメインクラス
  */
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
+@EnableCaching
 public class SpringBatchDemoApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,19 @@
+package com.example.springbatch.concurrent;
+
+/**
+ * 優先度と投入時刻を持つタスク
+ * <p>
+ * {@link PriorityAgingBlockingQueue} は、この2つの値から実行順を決める。
+ */
+public interface PrioritizedTask extends Runnable {
+
+    /**
+     * 優先度（値が小さいほど優先）。指定されていない場合はnull
+     */
+    Integer getPriority();
+
+    /**
+     * 投入時刻（{@link System#nanoTime()} の値）
+     */
+    long getSubmittedAt();
+}
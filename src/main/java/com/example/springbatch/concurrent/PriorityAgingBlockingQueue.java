@@ -0,0 +1,326 @@
+package com.example.springbatch.concurrent;
+
+import java.time.Duration;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 待機中のタスクを優先度順に取り出す、容量付きのスレッドプール用キュー
+ * <p>
+ * 各タスクの実行順は「投入時刻 + 優先度 × {@code agingInterval}」の期限で決め、期限が早いものから取り出す。
+ * 同じ時刻に投入されたタスクは優先度の値が小さいものが先になり、優先度が1段階低いタスクも
+ * {@code agingInterval} だけ先に投入されていれば同順位になるため、高い優先度のタスクが投入され続けても
+ * 低い優先度のタスクがいつまでも実行されないことはない（エージング）。
+ * 期限は投入時に確定するため、待機中に順位が入れ替わってヒープの順序が崩れることはない。期限が同じタスクは投入順に取り出す。
+ * <p>
+ * 優先度は {@link PrioritizedTask} から取得し、それ以外のタスクや優先度が指定されていないタスクは {@code defaultPriority} として扱う。
+ * {@code agingInterval} が0の場合は優先度を無視した投入順となる。
+ */
+public class PriorityAgingBlockingQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private final int capacity;
+
+    private final Duration agingInterval;
+
+    private final int defaultPriority;
+
+    private final PriorityQueue<Entry> entries = new PriorityQueue<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    // 期限が同じタスクを投入順に並べるための連番
+    private long sequence;
+
+    /**
+     * @param capacity        キュー容量
+     * @param agingInterval   優先度1段階分に相当する待機時間
+     * @param defaultPriority 優先度が指定されていないタスクの優先度
+     */
+    public PriorityAgingBlockingQueue(int capacity, Duration agingInterval, int defaultPriority) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("キュー容量は1以上を指定してください: " + capacity);
+        }
+        this.capacity = capacity;
+        this.agingInterval = agingInterval;
+        this.defaultPriority = defaultPriority;
+    }
+
+    /**
+     * 優先度とエージングから実行順の期限を求める。期限の早いものほど先に実行する
+     * <p>
+     * キューに投入したタスクの期限も、キューを使用しない起動待ち（一括起動の起動順など）の期限もこのメソッドで求める。
+     *
+     * @param submittedAt   投入時刻（{@link System#nanoTime()} の値）
+     * @param priority      優先度（値が小さいほど優先）
+     * @param agingInterval 優先度1段階分に相当する待機時間
+     */
+    public static long deadline(long submittedAt, int priority, Duration agingInterval) {
+        return submittedAt + priority * agingInterval.toNanos();
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        Entry entry = newEntry(task);
+        lock.lock();
+        try {
+            if (entries.size() >= capacity) {
+                return false;
+            }
+            enqueue(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        Entry entry = newEntry(task);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (entries.size() >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        Entry entry = newEntry(task);
+        lock.lockInterruptibly();
+        try {
+            while (entries.size() >= capacity) {
+                notFull.await();
+            }
+            enqueue(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (entries.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (entries.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            Entry head = entries.peek();
+            return head != null ? head.task() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object task) {
+        lock.lock();
+        try {
+            boolean removed = entries.removeIf(entry -> entry.task() == task);
+            if (removed) {
+                notFull.signal();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> collection, int maxElements) {
+        if (collection == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && !entries.isEmpty()) {
+                collection.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 呼び出し時点の内容を実行順に返すイテレーター。取り出し後の変更は反映しない
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> snapshot;
+        lock.lock();
+        try {
+            List<Entry> ordered = new ArrayList<>(entries);
+            ordered.sort(null);
+            snapshot = ordered.stream().map(Entry::task).toList();
+        } finally {
+            lock.unlock();
+        }
+        return new Iterator<>() {
+
+            private int index;
+
+            private Runnable lastReturned;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.size();
+            }
+
+            @Override
+            public Runnable next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = snapshot.get(index++);
+                return lastReturned;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                PriorityAgingBlockingQueue.this.remove(lastReturned);
+                lastReturned = null;
+            }
+        };
+    }
+
+    private Entry newEntry(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        long submittedAt = System.nanoTime();
+        int priority = defaultPriority;
+        if (task instanceof PrioritizedTask prioritized) {
+            submittedAt = prioritized.getSubmittedAt();
+            if (prioritized.getPriority() != null) {
+                priority = prioritized.getPriority();
+            }
+        }
+        return new Entry(task, deadline(submittedAt, priority, agingInterval));
+    }
+
+    // ロックを保持した状態で呼び出す
+    private void enqueue(Entry entry) {
+        entries.add(entry.withSequence(sequence++));
+        notEmpty.signal();
+    }
+
+    // ロックを保持した状態で呼び出す
+    private Runnable dequeue() {
+        Entry head = entries.poll();
+        if (head == null) {
+            return null;
+        }
+        notFull.signal();
+        return head.task();
+    }
+
+    private record Entry(Runnable task, long deadline, long sequence) implements Comparable<Entry> {
+
+        private Entry(Runnable task, long deadline) {
+            this(task, deadline, 0);
+        }
+
+        private Entry withSequence(long sequence) {
+            return new Entry(task, deadline, sequence);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            // nanoTimeの桁あふれを考慮して差の符号で比較する
+            long difference = deadline - other.deadline;
+            if (difference != 0) {
+                return difference < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.springbatch.concurrent;
+
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+
+/**
+ * 実行器に投入するタスクの優先度を、投入するスレッドに一時的に設定するユーティリティ
+ * <p>
+ * 実行器のタスクデコレーター（{@link com.example.springbatch.metrics.TaskExecutorMetrics}）は投入時にこの値を読み取り、
+ * タスクの優先度として保持する。{@code submit} のように、投入するタスクの型を呼び出し元で指定できない場合に使用する。
+ * <pre>{@code
+ * try (SubmissionPriority.Scope ignored = SubmissionPriority.use(1)) {
+ *     taskExecutor.submit(task);
+ * }
+ * }</pre>
+ */
+public final class SubmissionPriority {
+
+    /**
+     * Job実行の優先度を指定するJobパラメータ名
+     */
+    public static final String JOB_PARAMETER = "priority";
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private SubmissionPriority() {
+    }
+
+    /**
+     * 現在のスレッドに設定されている優先度を取得
+     *
+     * @return 優先度。設定されていない場合はnull
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 現在のスレッドに優先度を設定し、{@link Scope#close()} で元の値に戻す
+     *
+     * @param priority 優先度。nullの場合は未指定として扱う
+     */
+    public static Scope use(Integer priority) {
+        Integer previous = CURRENT.get();
+        set(priority);
+        return () -> set(previous);
+    }
+
+    /**
+     * Jobパラメータ {@value #JOB_PARAMETER} から優先度を取得
+     *
+     * @param defaultPriority パラメータが指定されていない、または数値でない場合の値
+     */
+    public static Integer of(JobParameters jobParameters, Integer defaultPriority) {
+        JobParameter<?> parameter = jobParameters.getParameter(JOB_PARAMETER);
+        if (parameter != null && parameter.getValue() instanceof Number priority) {
+            return priority.intValue();
+        }
+        return defaultPriority;
+    }
+
+    private static void set(Integer priority) {
+        if (priority == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(priority);
+        }
+    }
+
+    /**
+     * 優先度の設定範囲
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.springbatch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.DuplicateJobException;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.configuration.support.ReferenceJobFactory;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.AbstractTaskletStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilderHelper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 単一Stepで構成されたJobを登録するテンプレートの共通基底クラス。
+ * <p>
+ * Step / Job bean の登録と {@link JobRegistry} への登録を担当し、
+ * Stepの組み立て方はサブクラスが {@link #createStep} で決定する。
+ * コンテキストに登録された {@link JobExecutionListener} beanは全てのJobに登録される。
+ * {@link StepExecutionListener} / {@link ChunkListener} beanは、サブクラスが
+ * {@link #applyStepListeners} / {@link #applyStepExecutionListeners} を通してStepを組み立てることで登録される。
+ * Jobの非同期処理には {@link #taskExecutor()} で取得した、Job名ごとに選択される実行器を使用する。
+ */
+public abstract class AbstractBatchJobConfiguration implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractBatchJobConfiguration.class);
+
+    @Autowired
+    private GenericApplicationContext applicationContext;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private JobExecutorRegistry jobExecutorRegistry;
+
+    @Override
+    public void afterPropertiesSet() {
+        registerJobDefinition();
+    }
+
+    protected abstract String jobName();
+
+    protected String stepName() {
+        return jobName() + "Step";
+    }
+
+    /**
+     * Jobを構成するStepを組み立てる。
+     */
+    protected abstract Step createStep(String stepName,
+                                       JobRepository jobRepository,
+                                       PlatformTransactionManager transactionManager);
+
+    /**
+     * Step bean の登録前に、Stepが利用するbeanを登録するためのフック。
+     */
+    protected void registerStepComponents(String stepName) {
+        // default no-op
+    }
+
+    /**
+     * このJobの非同期処理に使用する実行器（専用の実行器が設定されていない場合は共有の {@code taskExecutor}）
+     */
+    protected AsyncTaskExecutor taskExecutor() {
+        return jobExecutorRegistry.getExecutor(jobName());
+    }
+
+    protected GenericApplicationContext getApplicationContext() {
+        return applicationContext;
+    }
+
+    private void registerJobDefinition() {
+        String jobName = jobName();
+        String stepName = stepName();
+
+        registerStepComponents(stepName);
+
+        if (!applicationContext.containsBean(stepName)) {
+            applicationContext.registerBean(stepName, Step.class,
+                    () -> createStep(stepName, jobRepository, transactionManager));
+        }
+
+        if (!applicationContext.containsBean(jobName)) {
+            applicationContext.registerBean(jobName, Job.class,
+                    () -> buildSimpleJob(jobName,
+                            applicationContext.getBean(stepName, Step.class),
+                            jobRepository));
+        }
+
+        registerToJobRegistry(jobName);
+    }
+
+    private void registerToJobRegistry(String jobName) {
+        try {
+            Job job = applicationContext.getBean(jobName, Job.class);
+            jobRegistry.register(new ReferenceJobFactory(job));
+        } catch (DuplicateJobException e) {
+            logger.debug("Job [{}] is already registered. Skipping duplicate registration.", jobName);
+        }
+    }
+
+    protected Job buildSimpleJob(String jobName,
+                                 Step firstStep,
+                                 JobRepository jobRepository) {
+        SimpleJobBuilder builder = new JobBuilder(jobName, jobRepository)
+                .start(firstStep);
+        applicationContext.getBeanProvider(JobExecutionListener.class)
+                .orderedStream()
+                .forEach(builder::listener);
+        return builder.build();
+    }
+
+    /**
+     * コンテキストに登録された {@link StepExecutionListener} beanをStepに登録する。
+     */
+    protected <B extends StepBuilderHelper<B>> B applyStepExecutionListeners(B builder) {
+        applicationContext.getBeanProvider(StepExecutionListener.class)
+                .orderedStream()
+                .forEach(listener -> builder.listener(listener));
+        return builder;
+    }
+
+    /**
+     * コンテキストに登録された {@link StepExecutionListener} / {@link ChunkListener} beanをStepに登録する。
+     */
+    protected <B extends AbstractTaskletStepBuilder<B>> B applyStepListeners(B builder) {
+        applyStepExecutionListeners(builder);
+        applicationContext.getBeanProvider(ChunkListener.class)
+                .orderedStream()
+                .forEach(listener -> builder.listener(listener));
+        return builder;
+    }
+}
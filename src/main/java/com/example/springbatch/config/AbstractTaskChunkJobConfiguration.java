@@ -0,0 +1,137 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.item.TaskCompletionItemWriter;
+import com.example.springbatch.item.TaskItemReader;
+import com.example.springbatch.item.TaskItemWriter;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.partition.TaskIdRangePartitioner;
+import com.example.springbatch.partition.TaskPriorityPartitioner;
+import com.example.springbatch.repository.TaskRepository;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 未処理の {@link Task} をチャンク単位で処理するJobを登録するためのテンプレート。
+ * <p>
+ * サブクラスは {@link #jobName()} と {@link #processorClass()} を実装するだけで、
+ * 未処理タスクのページングReader、指定したProcessor、まとめて保存するWriterで構成された
+ * チャンク指向Stepと、それを実行するJobが自動的に登録される。
+ * コミット間隔とページサイズは {@link BatchProperties.Chunk} で設定する。
+ * <p>
+ * {@code app.batch.jobs.<jobName>.partition} でパーティション方式を指定した場合は、
+ * タスクテーブルを分割したワーカーStepを {@link #taskExecutor()} 上で並列実行する。
+ */
+public abstract class AbstractTaskChunkJobConfiguration extends AbstractBatchJobConfiguration {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    protected abstract Class<? extends ItemProcessor<Task, Task>> processorClass();
+
+    protected String readerName(String stepName) {
+        return stepName + "Reader";
+    }
+
+    /**
+     * ReaderはStep実行ごとに状態を持つため、stepスコープのbeanとして登録する。
+     */
+    @Override
+    protected void registerStepComponents(String stepName) {
+        GenericApplicationContext applicationContext = getApplicationContext();
+        String readerName = readerName(stepName);
+
+        if (!applicationContext.containsBeanDefinition(readerName)) {
+            RootBeanDefinition readerDefinition = new RootBeanDefinition(TaskItemReader.class, this::createItemReader);
+            readerDefinition.setScope("step");
+            BeanDefinitionHolder proxyHolder = ScopedProxyUtils.createScopedProxy(
+                    new BeanDefinitionHolder(readerDefinition, readerName), applicationContext, true);
+            applicationContext.registerBeanDefinition(proxyHolder.getBeanName(), proxyHolder.getBeanDefinition());
+        }
+    }
+
+    protected TaskItemReader createItemReader() {
+        BatchProperties.Chunk chunk = batchProperties.getChunk();
+        return new TaskItemReader(taskRepository, chunk.getPageSize(), chunk.getReadOrder());
+    }
+
+    protected ItemProcessor<Task, Task> resolveItemProcessor() {
+        return getApplicationContext().getBean(processorClass());
+    }
+
+    /**
+     * Writerのクラス。完了状態のみを一括更新する場合は {@link TaskCompletionItemWriter} を返す。
+     */
+    protected Class<? extends ItemWriter<Task>> writerClass() {
+        return TaskItemWriter.class;
+    }
+
+    protected ItemWriter<Task> resolveItemWriter() {
+        return getApplicationContext().getBean(writerClass());
+    }
+
+    @Override
+    protected Step createStep(String stepName,
+                              JobRepository jobRepository,
+                              PlatformTransactionManager transactionManager) {
+        TaskItemReader reader = getApplicationContext().getBean(readerName(stepName), TaskItemReader.class);
+        BatchProperties.Partition partition = batchProperties.getJobSettings(jobName()).getPartition();
+
+        if (partition.getStrategy() == BatchProperties.PartitionStrategy.NONE) {
+            return buildChunkStep(stepName, reader, resolveItemProcessor(), resolveItemWriter(),
+                    jobRepository, transactionManager);
+        }
+
+        Step workerStep = buildChunkStep(stepName + "Worker", reader, resolveItemProcessor(), resolveItemWriter(),
+                jobRepository, transactionManager);
+        return buildPartitionedStep(stepName, workerStep, resolvePartitioner(partition.getStrategy()),
+                partition.getGridSize(), jobRepository);
+    }
+
+    protected Partitioner resolvePartitioner(BatchProperties.PartitionStrategy strategy) {
+        return switch (strategy) {
+            case ID_RANGE -> getApplicationContext().getBean(TaskIdRangePartitioner.class);
+            case PRIORITY -> getApplicationContext().getBean(TaskPriorityPartitioner.class);
+            case NONE -> throw new IllegalArgumentException("パーティション方式が指定されていません: " + jobName());
+        };
+    }
+
+    protected Step buildPartitionedStep(String stepName,
+                                        Step workerStep,
+                                        Partitioner partitioner,
+                                        int gridSize,
+                                        JobRepository jobRepository) {
+        return applyStepExecutionListeners(new StepBuilder(stepName, jobRepository)
+                .partitioner(workerStep.getName(), partitioner)
+                .step(workerStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor()))
+                .build();
+    }
+
+    protected Step buildChunkStep(String stepName,
+                                  TaskItemReader reader,
+                                  ItemProcessor<Task, Task> processor,
+                                  ItemWriter<Task> writer,
+                                  JobRepository jobRepository,
+                                  PlatformTransactionManager transactionManager) {
+        return applyStepListeners(new StepBuilder(stepName, jobRepository)
+                .<Task, Task>chunk(batchProperties.getChunk().getCommitInterval(), transactionManager)
+                .reader(reader)
+                .processor(processor)
+                .writer(writer))
+                .build();
+    }
+}
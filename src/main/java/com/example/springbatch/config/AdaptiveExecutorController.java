@@ -0,0 +1,217 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.metrics.TaskExecutorMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 非同期タスク実行器のコアスレッド数を、タスクの待機時間・スループット・システムCPU使用率に応じて増減するコントローラー
+ * <p>
+ * {@code adaptive.enabled} が有効なスレッドプール方式の実行器（共有の {@code taskExecutor} とJob専用の実行器）を対象に、
+ * {@code app.batch.executor.adaptive.interval} ごとに次の規則でコアスレッド数を決める。
+ * <ul>
+ *     <li>CPU使用率が上限を超えている場合は、スレッドを増やしても処理が進まないため減らす</li>
+ *     <li>平均待機時間が目標を超えている、または全スレッドが実行中でタスクが待機している場合は増やす。
+ *     ただし前回増やしてもスループットが伸びなかった場合は、CPU以外の資源が律速しているとみなして据え置く</li>
+ *     <li>待機中のタスクがなく、実行中のタスクが増減幅以上に少ない場合は減らす</li>
+ * </ul>
+ * 判定結果は {@code batch.executor.adaptive.*} メトリクスとして記録する。
+ */
+@Component
+public class AdaptiveExecutorController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveExecutorController.class);
+
+    // スループットが伸びたとみなす前回比の下限
+    private static final double THROUGHPUT_GAIN_THRESHOLD = 1.05;
+
+    /**
+     * 調整の判定結果
+     */
+    public enum Decision {
+        GROW, SHRINK, HOLD
+    }
+
+    // 実行器名ごとの調整状態
+    private final Map<String, ControlState> states = new ConcurrentHashMap<>();
+
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+    @Autowired
+    private JobExecutorRegistry jobExecutorRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "#{@batchProperties.executor.adaptive.interval.toMillis()}")
+    public void adjust() {
+        double cpuLoad = systemCpuLoad();
+        for (JobExecutorRegistry.ManagedExecutor managed : jobExecutorRegistry.getManagedExecutors()) {
+            BatchProperties.Adaptive settings = managed.settings().getAdaptive();
+            if (settings.isEnabled() && managed.executor() instanceof ThreadPoolTaskExecutor executor) {
+                adjust(executor, managed.metrics(), settings, cpuLoad);
+            }
+        }
+    }
+
+    private void adjust(ThreadPoolTaskExecutor executor,
+                        TaskExecutorMetrics metrics,
+                        BatchProperties.Adaptive settings,
+                        double cpuLoad) {
+        ControlState state = states.computeIfAbsent(metrics.getExecutorName(),
+                name -> initialize(name, executor, metrics, settings));
+
+        long now = System.nanoTime();
+        TaskExecutorMetrics.Totals totals = metrics.getTotals();
+        long started = totals.startedTasks() - state.lastTotals.startedTasks();
+        double elapsedSeconds = (now - state.lastSampledAt) / 1_000_000_000.0;
+        double queueWaitMillis = started > 0
+                ? (totals.queueWaitNanos() - state.lastTotals.queueWaitNanos()) / 1_000_000.0 / started
+                : 0.0;
+        double throughput = elapsedSeconds > 0
+                ? (totals.completedTasks() - state.lastTotals.completedTasks()) / elapsedSeconds
+                : 0.0;
+
+        int poolSize = executor.getCorePoolSize();
+        Decision decision = decide(poolSize, queueWaitMillis, metrics.getQueuedTasks(), metrics.getActiveTasks(),
+                cpuLoad, state.lastDecision == Decision.GROW && throughput < state.throughput * THROUGHPUT_GAIN_THRESHOLD,
+                settings);
+        int nextPoolSize = switch (decision) {
+            case GROW -> Math.min(settings.getMaxPoolSize(), poolSize + settings.getStep());
+            case SHRINK -> Math.max(settings.getMinPoolSize(), poolSize - settings.getStep());
+            case HOLD -> poolSize;
+        };
+        if (nextPoolSize == poolSize) {
+            decision = Decision.HOLD;
+        } else {
+            executor.setCorePoolSize(nextPoolSize);
+            logger.info("スレッド数を調整しました - 実行器: {}, {} -> {}, 平均待機: {}ms, スループット: {}/s, CPU: {}",
+                    metrics.getExecutorName(), poolSize, nextPoolSize, String.format("%.1f", queueWaitMillis),
+                    String.format("%.1f", throughput), String.format("%.2f", cpuLoad));
+        }
+
+        state.poolSize = nextPoolSize;
+        state.queueWaitMillis = queueWaitMillis;
+        state.throughput = throughput;
+        state.cpuLoad = cpuLoad;
+        state.lastDecision = decision;
+        state.lastTotals = totals;
+        state.lastSampledAt = now;
+        state.decisionCounters.get(decision).increment();
+    }
+
+    /**
+     * 1回分の計測値から調整方法を決める
+     *
+     * @param poolSize            現在のコアスレッド数
+     * @param queueWaitMillis     判定区間のタスクの平均待機時間（ミリ秒）
+     * @param queuedTasks         待機中のタスク数
+     * @param activeTasks         実行中のタスク数
+     * @param cpuLoad             システムCPU使用率（0.0〜1.0、取得できない場合は負の値）
+     * @param growthIneffective   前回増やしてもスループットが伸びなかったか
+     * @param settings            自動調整設定
+     */
+    public static Decision decide(int poolSize,
+                                  double queueWaitMillis,
+                                  int queuedTasks,
+                                  int activeTasks,
+                                  double cpuLoad,
+                                  boolean growthIneffective,
+                                  BatchProperties.Adaptive settings) {
+        if (cpuLoad > settings.getMaxCpuLoad()) {
+            return poolSize > settings.getMinPoolSize() ? Decision.SHRINK : Decision.HOLD;
+        }
+        boolean waiting = queueWaitMillis > settings.getTargetQueueWait().toMillis()
+                || (queuedTasks > 0 && activeTasks >= poolSize);
+        if (waiting) {
+            return poolSize < settings.getMaxPoolSize() && !growthIneffective ? Decision.GROW : Decision.HOLD;
+        }
+        if (queuedTasks == 0 && activeTasks <= poolSize - settings.getStep() && poolSize > settings.getMinPoolSize()) {
+            return Decision.SHRINK;
+        }
+        return Decision.HOLD;
+    }
+
+    private ControlState initialize(String name,
+                                    ThreadPoolTaskExecutor executor,
+                                    TaskExecutorMetrics metrics,
+                                    BatchProperties.Adaptive settings) {
+        // 最大スレッド数を調整範囲の上限に広げてから、コアスレッド数を範囲内に収める
+        if (executor.getMaxPoolSize() < settings.getMaxPoolSize()) {
+            executor.setMaxPoolSize(settings.getMaxPoolSize());
+        }
+        int poolSize = Math.max(settings.getMinPoolSize(), Math.min(settings.getMaxPoolSize(), executor.getCorePoolSize()));
+        executor.setCorePoolSize(poolSize);
+
+        ControlState state = new ControlState(metrics.getTotals(), poolSize);
+        Gauge.builder("batch.executor.adaptive.pool.size", state, s -> s.poolSize)
+                .description("自動調整で決めたコアスレッド数")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("batch.executor.adaptive.queue.wait", state, s -> s.queueWaitMillis)
+                .description("直近の判定区間のタスクの平均待機時間（ミリ秒）")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("batch.executor.adaptive.throughput", state, s -> s.throughput)
+                .description("直近の判定区間に完了したタスク数（件/秒）")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("batch.executor.adaptive.cpu.load", state, s -> s.cpuLoad)
+                .description("直近の判定時のシステムCPU使用率")
+                .tag("name", name)
+                .register(meterRegistry);
+        for (Decision decision : Decision.values()) {
+            state.decisionCounters.put(decision, Counter.builder("batch.executor.adaptive.decisions")
+                    .description("自動調整の判定回数")
+                    .tag("name", name)
+                    .tag("decision", decision.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        logger.info("スレッド数の自動調整を開始しました - 実行器: {}, 範囲: {}〜{}",
+                name, settings.getMinPoolSize(), settings.getMaxPoolSize());
+        return state;
+    }
+
+    private double systemCpuLoad() {
+        if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getCpuLoad();
+        }
+        return -1.0;
+    }
+
+    private static final class ControlState {
+
+        private final Map<Decision, Counter> decisionCounters = new ConcurrentHashMap<>();
+
+        private volatile TaskExecutorMetrics.Totals lastTotals;
+
+        private volatile long lastSampledAt = System.nanoTime();
+
+        private volatile int poolSize;
+
+        private volatile double queueWaitMillis;
+
+        private volatile double throughput;
+
+        private volatile double cpuLoad;
+
+        private volatile Decision lastDecision = Decision.HOLD;
+
+        private ControlState(TaskExecutorMetrics.Totals lastTotals, int poolSize) {
+            this.lastTotals = lastTotals;
+            this.poolSize = poolSize;
+        }
+    }
+}
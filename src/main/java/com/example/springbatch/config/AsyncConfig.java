@@ -1,11 +1,29 @@
 package com.example.springbatch.config;
 
+import com.example.springbatch.concurrent.PriorityAgingBlockingQueue;
+import com.example.springbatch.metrics.TaskExecutorMetrics;
+import com.example.springbatch.service.RunningExecutionRegistry;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 非同期実行設定クラス
@@ -14,19 +32,148 @@ import java.util.concurrent.Executor;
 @EnableAsync(proxyTargetClass = true)
 public class AsyncConfig {
 
+    private static final String THREAD_NAME_PREFIX = "BatchJob-";
+
+    private static final String JOB_LAUNCHER_THREAD_NAME_PREFIX = "JobLauncher-";
+
     /**
      * 非同期タスク実行器を設定
+     * <p>
+     * {@code app.batch.executor.mode} が {@code virtual} の場合は、タスクごとに仮想スレッドを生成する。
+     * {@code platform} で {@code app.batch.executor.priority.enabled} が有効な場合は、待機中のタスクを優先度順に実行する。
+     * 実行中・待機中・拒否されたタスク数は {@link TaskExecutorMetrics} で計測する。
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public AsyncTaskExecutor taskExecutor(BatchProperties batchProperties, TaskExecutorMetrics taskExecutorMetrics) {
+        return createTaskExecutor(THREAD_NAME_PREFIX, batchProperties.getExecutor(), taskExecutorMetrics);
+    }
+
+    /**
+     * Job本体を実行する起動用の実行器
+     * <p>
+     * Job本体のスレッドは業務処理の完了を待つため、業務処理を実行する {@code taskExecutor} とは分ける。
+     * 同じ実行器を使用すると、実行中のJobがスレッドを占有して業務処理がキューで待ち続け、Jobが終わらなくなる。
+     * 同時に実行するJob本体の数は {@code app.batch.launcher.concurrency-limit} で制限し、上限を超えた起動要求は
+     * 待機させずに拒否する（Job実行は開始されずに失敗として記録される）。起動要求元のスレッド（HTTPリクエストや
+     * スケジューラー）を待たせないため、キューは持たない。
+     * {@code app.batch.executor.mode} が {@code virtual} の場合は仮想スレッドで実行する。
+     */
+    @Bean(name = "jobLauncherTaskExecutor")
+    public AsyncTaskExecutor jobLauncherTaskExecutor(BatchProperties batchProperties) {
+        int concurrencyLimit = batchProperties.getLauncher().getConcurrencyLimit();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("BatchJob-");
+        executor.setCorePoolSize(concurrencyLimit);
+        executor.setMaxPoolSize(concurrencyLimit);
+        executor.setQueueCapacity(0);
+        // 起動がない間はスレッドを残さない
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(JOB_LAUNCHER_THREAD_NAME_PREFIX);
+        if (batchProperties.getExecutor().getMode() == BatchProperties.ExecutorMode.VIRTUAL) {
+            executor.setThreadFactory(Thread.ofVirtual().name(JOB_LAUNCHER_THREAD_NAME_PREFIX, 1).factory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Jobを非同期で起動するJobLauncher
+     * <p>
+     * Job実行を作成した時点で呼び出し元に戻り、Job本体は {@code jobLauncherTaskExecutor} で実行する。
+     * 作成したJob実行は戻る前に {@link RunningExecutionRegistry} に登録するため、Job本体の開始（beforeJob）を待たずに
+     * 実行中の確認に含まれる。
+     * 同期で起動する既定の {@code jobLauncher} は、コマンドライン実行など完了を待つ用途で引き続き使用する。
+     */
+    @Bean(name = "asyncJobLauncher")
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository,
+                                        @Qualifier("jobLauncherTaskExecutor") AsyncTaskExecutor jobLauncherTaskExecutor,
+                                        RunningExecutionRegistry runningExecutionRegistry) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher() {
+            @Override
+            public JobExecution run(Job job, JobParameters jobParameters)
+                    throws JobExecutionAlreadyRunningException, JobRestartException,
+                    JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+                JobExecution jobExecution = super.run(job, jobParameters);
+                // 起動用の実行器に受け付けられなかった（同時実行数の上限を超えた）Job実行は、
+                // 開始されずに失敗として記録されるため登録しない
+                if (jobExecution.isRunning()) {
+                    runningExecutionRegistry.register(jobExecution);
+                }
+                return jobExecution;
+            }
+        };
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(jobLauncherTaskExecutor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+
+    /**
+     * 設定に従って非同期タスク実行器を作成（Job別の実行器の作成にも使用する）
+     */
+    static AsyncTaskExecutor createTaskExecutor(String threadNamePrefix,
+                                                BatchProperties.Executor settings,
+                                                TaskExecutorMetrics taskExecutorMetrics) {
+        if (settings.getMode() == BatchProperties.ExecutorMode.VIRTUAL) {
+            return virtualThreadTaskExecutor(threadNamePrefix, settings, taskExecutorMetrics);
+        }
+        return platformThreadTaskExecutor(threadNamePrefix, settings, taskExecutorMetrics);
+    }
+
+    private static ThreadPoolTaskExecutor platformThreadTaskExecutor(String threadNamePrefix,
+                                                                     BatchProperties.Executor settings,
+                                                                     TaskExecutorMetrics taskExecutorMetrics) {
+        ThreadPoolTaskExecutor executor = settings.getPriority().isEnabled()
+                ? priorityThreadPoolTaskExecutor(settings.getPriority())
+                : new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(settings.getCorePoolSize());
+        executor.setMaxPoolSize(settings.getMaxPoolSize());
+        executor.setQueueCapacity(settings.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(taskExecutorMetrics);
+        executor.setRejectedExecutionHandler(
+                taskExecutorMetrics.countingRejections(rejectedExecutionHandler(settings.getRejectionPolicy())));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 待機中のタスクを優先度順（エージング付き）に取り出すキューを使用するスレッドプール
+     */
+    private static ThreadPoolTaskExecutor priorityThreadPoolTaskExecutor(BatchProperties.QueuePriority priority) {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+                if (queueCapacity <= 0) {
+                    // キューを持たない（直接スレッドに渡す）場合は並べ替える対象がない
+                    return super.createQueue(queueCapacity);
+                }
+                return new PriorityAgingBlockingQueue(queueCapacity, priority.getAgingInterval(),
+                        priority.getDefaultPriority());
+            }
+        };
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadTaskExecutor(String threadNamePrefix,
+                                                                     BatchProperties.Executor settings,
+                                                                     TaskExecutorMetrics taskExecutorMetrics) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(settings.getConcurrencyLimit());
+        executor.setTaskTerminationTimeout(60_000);
+        executor.setTaskDecorator(taskExecutorMetrics);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectedExecutionHandler(BatchProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+        };
+    }
 }
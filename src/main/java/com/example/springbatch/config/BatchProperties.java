@@ -3,6 +3,10 @@ package com.example.springbatch.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * バッチ処理関連の設定プロパティ
  */
@@ -20,6 +24,66 @@ public class BatchProperties {
      */
     private Status status = new Status();
     
+    /**
+     * チャンク処理設定
+     */
+    private Chunk chunk = new Chunk();
+    
+    /**
+     * Job別設定（キーはJob名）
+     */
+    private Map<String, JobSettings> jobs = new HashMap<>();
+    
+    /**
+     * 非同期タスク実行器設定
+     */
+    private Executor executor = new Executor();
+    
+    /**
+     * Job本体を実行する起動用の実行器設定
+     */
+    private Launcher launcher = new Launcher();
+    
+    /**
+     * 非同期業務Tasklet設定
+     */
+    private Tasklet tasklet = new Tasklet();
+    
+    /**
+     * 管理画面設定
+     */
+    private Dashboard dashboard = new Dashboard();
+    
+    /**
+     * 実行中Jobレジストリ設定
+     */
+    private RunningRegistry runningRegistry = new RunningRegistry();
+    
+    /**
+     * Job進捗イベント配信設定
+     */
+    private Events events = new Events();
+    
+    /**
+     * テストデータ生成設定
+     */
+    private Generator generator = new Generator();
+    
+    /**
+     * 停止シグナル設定
+     */
+    private StopSignal stopSignal = new StopSignal();
+    
+    /**
+     * ワーカーモード設定
+     */
+    private Worker worker = new Worker();
+    
+    /**
+     * Jobスケジューラー設定
+     */
+    private Scheduler scheduler = new Scheduler();
+    
     public int getSimulationDurationSeconds() {
         return simulationDurationSeconds;
     }
@@ -36,6 +100,109 @@ public class BatchProperties {
         this.status = status;
     }
     
+    public Chunk getChunk() {
+        return chunk;
+    }
+    
+    public void setChunk(Chunk chunk) {
+        this.chunk = chunk;
+    }
+    
+    public Map<String, JobSettings> getJobs() {
+        return jobs;
+    }
+    
+    public void setJobs(Map<String, JobSettings> jobs) {
+        this.jobs = jobs;
+    }
+    
+    public Executor getExecutor() {
+        return executor;
+    }
+    
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+    
+    public Launcher getLauncher() {
+        return launcher;
+    }
+    
+    public void setLauncher(Launcher launcher) {
+        this.launcher = launcher;
+    }
+    
+    public Tasklet getTasklet() {
+        return tasklet;
+    }
+    
+    public void setTasklet(Tasklet tasklet) {
+        this.tasklet = tasklet;
+    }
+    
+    public Dashboard getDashboard() {
+        return dashboard;
+    }
+    
+    public void setDashboard(Dashboard dashboard) {
+        this.dashboard = dashboard;
+    }
+    
+    public RunningRegistry getRunningRegistry() {
+        return runningRegistry;
+    }
+    
+    public void setRunningRegistry(RunningRegistry runningRegistry) {
+        this.runningRegistry = runningRegistry;
+    }
+    
+    public Events getEvents() {
+        return events;
+    }
+    
+    public void setEvents(Events events) {
+        this.events = events;
+    }
+    
+    public Generator getGenerator() {
+        return generator;
+    }
+    
+    public void setGenerator(Generator generator) {
+        this.generator = generator;
+    }
+    
+    public StopSignal getStopSignal() {
+        return stopSignal;
+    }
+    
+    public void setStopSignal(StopSignal stopSignal) {
+        this.stopSignal = stopSignal;
+    }
+    
+    public Worker getWorker() {
+        return worker;
+    }
+    
+    public void setWorker(Worker worker) {
+        this.worker = worker;
+    }
+    
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+    
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+    
+    /**
+     * 指定したJobの設定を取得。未設定の場合はデフォルト値の設定を返す。
+     */
+    public JobSettings getJobSettings(String jobName) {
+        return jobs.getOrDefault(jobName, new JobSettings());
+    }
+    
     /**
      * ステータス定義クラス
      */
@@ -68,4 +235,829 @@ public class BatchProperties {
             this.failed = failed;
         }
     }
+    
+    /**
+     * チャンク処理設定クラス
+     */
+    public static class Chunk {
+        /**
+         * 1トランザクションでコミットする件数
+         */
+        private int commitInterval = 100;
+        
+        /**
+         * リーダーが1回のクエリで取得する件数
+         */
+        private int pageSize = 100;
+        
+        /**
+         * ストリーミング読み込みでJDBCドライバーが1回に取得する行数
+         */
+        private int fetchSize = 500;
+        
+        /**
+         * リーダーが未処理タスクを読み込む順序
+         */
+        private ReadOrder readOrder = ReadOrder.ID;
+        
+        public int getCommitInterval() {
+            return commitInterval;
+        }
+        
+        public void setCommitInterval(int commitInterval) {
+            this.commitInterval = commitInterval;
+        }
+        
+        public int getPageSize() {
+            return pageSize;
+        }
+        
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+        
+        public int getFetchSize() {
+            return fetchSize;
+        }
+        
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+        
+        public ReadOrder getReadOrder() {
+            return readOrder;
+        }
+        
+        public void setReadOrder(ReadOrder readOrder) {
+            this.readOrder = readOrder;
+        }
+    }
+    
+    /**
+     * 未処理タスクの読み込み順序
+     */
+    public enum ReadOrder {
+        /** ID順 */
+        ID,
+        /** 優先度順（値が小さいほど先）、同じ優先度はID順。優先度が未設定のタスクは最後に読み込む */
+        PRIORITY
+    }
+    
+    /**
+     * Job別設定クラス
+     */
+    public static class JobSettings {
+        /**
+         * パーティション設定
+         */
+        private Partition partition = new Partition();
+        
+        /**
+         * 一括起動APIで同時に実行するJob実行数の上限（-1は無制限）。超過分は起動待ちとして順に起動する
+         */
+        private int maxConcurrentExecutions = -1;
+        
+        /**
+         * このJob専用の非同期タスク実行器（バルクヘッド）の設定。未指定の場合は共有の {@code taskExecutor} を使用する
+         */
+        private Executor executor;
+        
+        /**
+         * 実行器のキューでこのJobの実行を並べる優先度（値が小さいほど優先）。
+         * Jobパラメータ {@code priority} が指定された場合はそちらを優先する
+         */
+        private Integer priority;
+        
+        /**
+         * 起動スケジュール。未指定の場合はスケジュール起動しない
+         */
+        private Schedule schedule;
+        
+        public Partition getPartition() {
+            return partition;
+        }
+        
+        public void setPartition(Partition partition) {
+            this.partition = partition;
+        }
+        
+        public int getMaxConcurrentExecutions() {
+            return maxConcurrentExecutions;
+        }
+        
+        public void setMaxConcurrentExecutions(int maxConcurrentExecutions) {
+            this.maxConcurrentExecutions = maxConcurrentExecutions;
+        }
+        
+        public Executor getExecutor() {
+            return executor;
+        }
+        
+        public void setExecutor(Executor executor) {
+            this.executor = executor;
+        }
+        
+        public Integer getPriority() {
+            return priority;
+        }
+        
+        public void setPriority(Integer priority) {
+            this.priority = priority;
+        }
+        
+        public Schedule getSchedule() {
+            return schedule;
+        }
+        
+        public void setSchedule(Schedule schedule) {
+            this.schedule = schedule;
+        }
+    }
+    
+    /**
+     * パーティション設定クラス
+     */
+    public static class Partition {
+        /**
+         * 分割方式。NONEの場合は単一スレッドで処理する
+         */
+        private PartitionStrategy strategy = PartitionStrategy.NONE;
+        
+        /**
+         * 分割数（ID_RANGEの場合のみ有効）
+         */
+        private int gridSize = Runtime.getRuntime().availableProcessors();
+        
+        public PartitionStrategy getStrategy() {
+            return strategy;
+        }
+        
+        public void setStrategy(PartitionStrategy strategy) {
+            this.strategy = strategy;
+        }
+        
+        public int getGridSize() {
+            return gridSize;
+        }
+        
+        public void setGridSize(int gridSize) {
+            this.gridSize = gridSize;
+        }
+    }
+    
+    /**
+     * パーティション分割方式
+     */
+    public enum PartitionStrategy {
+        /** 分割しない */
+        NONE,
+        /** タスクIDの範囲で分割 */
+        ID_RANGE,
+        /** タスクの優先度ごとに分割 */
+        PRIORITY
+    }
+    
+    /**
+     * 非同期タスク実行器設定クラス
+     */
+    public static class Executor {
+        /**
+         * スレッド方式
+         */
+        private ExecutorMode mode = ExecutorMode.PLATFORM;
+        
+        /**
+         * コアスレッド数（PLATFORMの場合のみ有効）
+         */
+        private int corePoolSize = 2;
+        
+        /**
+         * 最大スレッド数（PLATFORMの場合のみ有効）
+         */
+        private int maxPoolSize = 5;
+        
+        /**
+         * キュー容量（PLATFORMの場合のみ有効）
+         */
+        private int queueCapacity = 100;
+        
+        /**
+         * スレッドとキューが埋まっている場合の拒否方式（PLATFORMの場合のみ有効）
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+        
+        /**
+         * 同時実行数の上限。-1は無制限（VIRTUALの場合のみ有効）
+         */
+        private int concurrencyLimit = -1;
+        
+        /**
+         * 仮想スレッドのキャリアスレッド固定（pinning）を監視するか（VIRTUALの場合のみ有効）
+         */
+        private boolean pinningMonitorEnabled = true;
+        
+        /**
+         * 報告対象とするpinning継続時間の閾値
+         */
+        private Duration pinningThreshold = Duration.ofMillis(20);
+        
+        /**
+         * スレッド数の自動調整設定（PLATFORMの場合のみ有効）
+         */
+        private Adaptive adaptive = new Adaptive();
+        
+        /**
+         * 待機中のタスクを優先度順に実行する設定（PLATFORMの場合のみ有効）
+         */
+        private QueuePriority priority = new QueuePriority();
+        
+        public ExecutorMode getMode() {
+            return mode;
+        }
+        
+        public void setMode(ExecutorMode mode) {
+            this.mode = mode;
+        }
+        
+        public int getCorePoolSize() {
+            return corePoolSize;
+        }
+        
+        public void setCorePoolSize(int corePoolSize) {
+            this.corePoolSize = corePoolSize;
+        }
+        
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+        
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+        
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+        
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+        
+        public int getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+        
+        public void setConcurrencyLimit(int concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+        }
+        
+        public boolean isPinningMonitorEnabled() {
+            return pinningMonitorEnabled;
+        }
+        
+        public void setPinningMonitorEnabled(boolean pinningMonitorEnabled) {
+            this.pinningMonitorEnabled = pinningMonitorEnabled;
+        }
+        
+        public Duration getPinningThreshold() {
+            return pinningThreshold;
+        }
+        
+        public void setPinningThreshold(Duration pinningThreshold) {
+            this.pinningThreshold = pinningThreshold;
+        }
+        
+        public Adaptive getAdaptive() {
+            return adaptive;
+        }
+        
+        public void setAdaptive(Adaptive adaptive) {
+            this.adaptive = adaptive;
+        }
+        
+        public QueuePriority getPriority() {
+            return priority;
+        }
+        
+        public void setPriority(QueuePriority priority) {
+            this.priority = priority;
+        }
+    }
+    
+    /**
+     * 非同期タスク実行器のスレッド数の自動調整設定クラス
+     */
+    public static class Adaptive {
+        /**
+         * 自動調整を有効にするか。有効な場合、コアスレッド数を最小値と最大値の範囲で増減する
+         */
+        private boolean enabled = false;
+        
+        /**
+         * コアスレッド数の最小値
+         */
+        private int minPoolSize = 1;
+        
+        /**
+         * コアスレッド数の最大値
+         */
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        
+        /**
+         * 調整の判定間隔
+         */
+        private Duration interval = Duration.ofSeconds(5);
+        
+        /**
+         * 目標とするタスクの平均待機時間。超えた場合にスレッドを増やす
+         */
+        private Duration targetQueueWait = Duration.ofMillis(100);
+        
+        /**
+         * システムCPU使用率の上限（0.0〜1.0）。超えた場合はスレッドを増やさずに減らす
+         */
+        private double maxCpuLoad = 0.85;
+        
+        /**
+         * 1回の調整で増減するスレッド数
+         */
+        private int step = 1;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getMinPoolSize() {
+            return minPoolSize;
+        }
+        
+        public void setMinPoolSize(int minPoolSize) {
+            this.minPoolSize = minPoolSize;
+        }
+        
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+        
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+        
+        public Duration getInterval() {
+            return interval;
+        }
+        
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+        
+        public Duration getTargetQueueWait() {
+            return targetQueueWait;
+        }
+        
+        public void setTargetQueueWait(Duration targetQueueWait) {
+            this.targetQueueWait = targetQueueWait;
+        }
+        
+        public double getMaxCpuLoad() {
+            return maxCpuLoad;
+        }
+        
+        public void setMaxCpuLoad(double maxCpuLoad) {
+            this.maxCpuLoad = maxCpuLoad;
+        }
+        
+        public int getStep() {
+            return step;
+        }
+        
+        public void setStep(int step) {
+            this.step = step;
+        }
+    }
+    
+    /**
+     * 非同期タスク実行器のキューの優先度設定クラス
+     */
+    public static class QueuePriority {
+        /**
+         * 待機中のタスクを優先度順に実行するか。無効の場合は投入順に実行する
+         */
+        private boolean enabled = false;
+        
+        /**
+         * 優先度1段階分に相当する待機時間。待機がこの時間を超えるごとに、後から投入された1段階高い優先度のタスクより先に実行される
+         */
+        private Duration agingInterval = Duration.ofSeconds(2);
+        
+        /**
+         * 優先度が指定されていないタスクの優先度
+         */
+        private int defaultPriority = 2;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public Duration getAgingInterval() {
+            return agingInterval;
+        }
+        
+        public void setAgingInterval(Duration agingInterval) {
+            this.agingInterval = agingInterval;
+        }
+        
+        public int getDefaultPriority() {
+            return defaultPriority;
+        }
+        
+        public void setDefaultPriority(int defaultPriority) {
+            this.defaultPriority = defaultPriority;
+        }
+    }
+    
+    /**
+     * 非同期タスク実行器のスレッド方式
+     */
+    public enum ExecutorMode {
+        /** プラットフォームスレッドのスレッドプール */
+        PLATFORM,
+        /** タスクごとに仮想スレッドを生成 */
+        VIRTUAL
+    }
+    
+    /**
+     * スレッドとキューが埋まっている場合のタスクの拒否方式
+     */
+    public enum RejectionPolicy {
+        /** 例外を送出して拒否する */
+        ABORT,
+        /** 投入したスレッドで実行する */
+        CALLER_RUNS,
+        /** 例外を送出せずに破棄する */
+        DISCARD
+    }
+    
+    /**
+     * 起動用の実行器設定クラス
+     */
+    public static class Launcher {
+        /**
+         * 同時に実行できるJob本体の数。超えた起動要求は拒否され、Job実行は開始されずに失敗として記録される
+         */
+        private int concurrencyLimit = 16;
+        
+        public int getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+        
+        public void setConcurrencyLimit(int concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+        }
+    }
+    
+    /**
+     * 非同期業務Tasklet設定クラス
+     */
+    public static class Tasklet {
+        /**
+         * 業務処理の再開位置（チェックポイント）を保存する最小間隔
+         */
+        private Duration checkpointInterval = Duration.ofSeconds(10);
+        
+        public Duration getCheckpointInterval() {
+            return checkpointInterval;
+        }
+        
+        public void setCheckpointInterval(Duration checkpointInterval) {
+            this.checkpointInterval = checkpointInterval;
+        }
+    }
+    
+    /**
+     * 管理画面設定クラス
+     */
+    public static class Dashboard {
+        /**
+         * 管理画面に表示するJob実行履歴の件数
+         */
+        private int historyLimit = 50;
+        
+        public int getHistoryLimit() {
+            return historyLimit;
+        }
+        
+        public void setHistoryLimit(int historyLimit) {
+            this.historyLimit = historyLimit;
+        }
+    }
+    
+    /**
+     * 実行中Jobレジストリ設定クラス
+     */
+    public static class RunningRegistry {
+        /**
+         * JobRepositoryとの突き合わせ間隔
+         */
+        private Duration reconcileInterval = Duration.ofSeconds(30);
+        
+        public Duration getReconcileInterval() {
+            return reconcileInterval;
+        }
+        
+        public void setReconcileInterval(Duration reconcileInterval) {
+            this.reconcileInterval = reconcileInterval;
+        }
+    }
+    
+    /**
+     * Job進捗イベント配信設定クラス
+     */
+    public static class Events {
+        /**
+         * 同一Stepの進捗イベントを配信する最小間隔
+         */
+        private Duration progressInterval = Duration.ofMillis(500);
+        
+        /**
+         * SSE接続のタイムアウト。タイムアウト後はブラウザが自動的に再接続する
+         */
+        private Duration emitterTimeout = Duration.ofMinutes(30);
+        
+        public Duration getProgressInterval() {
+            return progressInterval;
+        }
+        
+        public void setProgressInterval(Duration progressInterval) {
+            this.progressInterval = progressInterval;
+        }
+        
+        public Duration getEmitterTimeout() {
+            return emitterTimeout;
+        }
+        
+        public void setEmitterTimeout(Duration emitterTimeout) {
+            this.emitterTimeout = emitterTimeout;
+        }
+    }
+    
+    /**
+     * テストデータ生成設定クラス
+     */
+    public static class Generator {
+        /**
+         * 1回のJDBCバッチ（1トランザクション）で挿入する件数
+         */
+        private int batchSize = 1000;
+        
+        /**
+         * 進捗をログ出力する件数の間隔
+         */
+        private long logInterval = 100_000;
+        
+        public int getBatchSize() {
+            return batchSize;
+        }
+        
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+        
+        public long getLogInterval() {
+            return logInterval;
+        }
+        
+        public void setLogInterval(long logInterval) {
+            this.logInterval = logInterval;
+        }
+    }
+    
+    /**
+     * 停止シグナル設定クラス
+     */
+    public static class StopSignal {
+        /**
+         * JobRepository上の停止要求を確認する間隔
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+        
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+        
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+    }
+    
+    /**
+     * ワーカーモード設定クラス
+     */
+    public static class Worker {
+        /**
+         * ワーカーモードを有効にするか。有効にすると未処理タスクを取得して処理するJobを定期的に起動する
+         */
+        private boolean enabled = false;
+        
+        /**
+         * ワーカーの識別子（未指定の場合は「プロセスID@ホスト名」）
+         */
+        private String id;
+        
+        /**
+         * 1回に取得するタスク数
+         */
+        private int batchSize = 100;
+        
+        /**
+         * 取得候補として読み込むタスク数の取得件数に対する倍率。
+         * 候補から無作為に選ぶことで、複数ワーカーが同じタスクを取り合う頻度を下げる
+         */
+        private int candidateFactor = 4;
+        
+        /**
+         * 取得したタスクのリース期間。期限を過ぎたタスクは他のワーカーが取得できる
+         */
+        private Duration leaseDuration = Duration.ofMinutes(5);
+        
+        /**
+         * 未処理タスクがない場合に次のJobを起動するまでの間隔
+         */
+        private Duration idleInterval = Duration.ofSeconds(5);
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getId() {
+            return id;
+        }
+        
+        public void setId(String id) {
+            this.id = id;
+        }
+        
+        public int getBatchSize() {
+            return batchSize;
+        }
+        
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+        
+        public int getCandidateFactor() {
+            return candidateFactor;
+        }
+        
+        public void setCandidateFactor(int candidateFactor) {
+            this.candidateFactor = candidateFactor;
+        }
+        
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+        
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+        
+        public Duration getIdleInterval() {
+            return idleInterval;
+        }
+        
+        public void setIdleInterval(Duration idleInterval) {
+            this.idleInterval = idleInterval;
+        }
+    }
+    
+    /**
+     * Jobスケジューラー設定クラス
+     */
+    public static class Scheduler {
+        /**
+         * {@code app.batch.jobs.<Job名>.schedule} に従ってJobを起動するか
+         */
+        private boolean enabled = true;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+    
+    /**
+     * Jobの起動スケジュール設定クラス。{@code cron} と {@code fixedRate} のどちらか一方を指定する
+     */
+    public static class Schedule {
+        /**
+         * cron式（秒 分 時 日 月 曜日）
+         */
+        private String cron;
+        
+        /**
+         * cron式を評価するタイムゾーン。未指定の場合はシステムのタイムゾーン
+         */
+        private String zone;
+        
+        /**
+         * 起動間隔（前回の予定起動時刻からの間隔）
+         */
+        private Duration fixedRate;
+        
+        /**
+         * 予定起動時刻から遅らせる時間の上限。0から上限までの無作為な時間だけ遅らせて、多数のスケジュールの同時起動を避ける
+         */
+        private Duration jitter = Duration.ZERO;
+        
+        /**
+         * 前回のJob実行が終わっていなくても起動するか
+         */
+        private boolean allowOverlap = false;
+        
+        /**
+         * 停止中などで予定起動時刻を過ぎてしまった場合の扱い
+         */
+        private MisfirePolicy misfirePolicy = MisfirePolicy.COALESCE;
+        
+        public String getCron() {
+            return cron;
+        }
+        
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+        
+        public String getZone() {
+            return zone;
+        }
+        
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+        
+        public Duration getFixedRate() {
+            return fixedRate;
+        }
+        
+        public void setFixedRate(Duration fixedRate) {
+            this.fixedRate = fixedRate;
+        }
+        
+        public Duration getJitter() {
+            return jitter;
+        }
+        
+        public void setJitter(Duration jitter) {
+            this.jitter = jitter;
+        }
+        
+        public boolean isAllowOverlap() {
+            return allowOverlap;
+        }
+        
+        public void setAllowOverlap(boolean allowOverlap) {
+            this.allowOverlap = allowOverlap;
+        }
+        
+        public MisfirePolicy getMisfirePolicy() {
+            return misfirePolicy;
+        }
+        
+        public void setMisfirePolicy(MisfirePolicy misfirePolicy) {
+            this.misfirePolicy = misfirePolicy;
+        }
+    }
+    
+    /**
+     * 予定起動時刻を過ぎてしまった場合の扱い
+     */
+    public enum MisfirePolicy {
+        /** 過ぎた回数にかかわらず、直ちに1回だけ起動する */
+        COALESCE,
+        /** 起動せずに次の予定起動時刻を待つ */
+        SKIP
+    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.metrics.TaskExecutorMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job名ごとの非同期タスク実行器（バルクヘッド）を管理するレジストリ
+ * <p>
+ * {@code app.batch.jobs.<Job名>.executor} が設定されたJobには専用の実行器を作成し、
+ * 他のJobの処理が共有の {@code taskExecutor} のスレッドやキューを使い切っても影響を受けないようにする。
+ * 設定のないJobは共有の {@code taskExecutor} を使用する。
+ * 専用の実行器のメトリクスは {@code name} タグにJob名を設定して記録する。
+ */
+@Component
+public class JobExecutorRegistry implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExecutorRegistry.class);
+
+    // Job名ごとの専用の実行器
+    private final Map<String, ManagedExecutor> bulkheads = new ConcurrentHashMap<>();
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private AsyncTaskExecutor sharedExecutor;
+
+    @Autowired
+    private TaskExecutorMetrics sharedExecutorMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void afterPropertiesSet() {
+        batchProperties.getJobs().forEach((jobName, settings) -> {
+            BatchProperties.Executor executorSettings = settings.getExecutor();
+            if (executorSettings == null) {
+                return;
+            }
+            TaskExecutorMetrics metrics = new TaskExecutorMetrics(jobName);
+            metrics.bindTo(meterRegistry);
+            bulkheads.put(jobName, new ManagedExecutor(
+                    AsyncConfig.createTaskExecutor(jobName + "-", executorSettings, metrics), metrics, executorSettings));
+            logger.info("Job専用の実行器を作成しました - Job: {}, 方式: {}", jobName, executorSettings.getMode());
+        });
+    }
+
+    /**
+     * 指定したJobの非同期処理に使用する実行器を取得
+     *
+     * @param jobName Job名
+     * @return 専用の実行器。設定されていない場合は共有の {@code taskExecutor}
+     */
+    public AsyncTaskExecutor getExecutor(String jobName) {
+        ManagedExecutor bulkhead = bulkheads.get(jobName);
+        return bulkhead != null ? bulkhead.executor() : sharedExecutor;
+    }
+
+    /**
+     * 共有の {@code taskExecutor} と全ての専用の実行器を、計測値・設定と合わせて取得
+     */
+    public List<ManagedExecutor> getManagedExecutors() {
+        List<ManagedExecutor> executors = new ArrayList<>();
+        executors.add(new ManagedExecutor(sharedExecutor, sharedExecutorMetrics, batchProperties.getExecutor()));
+        executors.addAll(bulkheads.values());
+        return executors;
+    }
+
+    @Override
+    public void destroy() {
+        bulkheads.values().stream().map(ManagedExecutor::executor).forEach(executor -> {
+            if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+                threadPoolTaskExecutor.shutdown();
+            } else if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+                simpleAsyncTaskExecutor.close();
+            }
+        });
+    }
+
+    /**
+     * 実行器と、その計測値・設定
+     */
+    public record ManagedExecutor(AsyncTaskExecutor executor,
+                                  TaskExecutorMetrics metrics,
+                                  BatchProperties.Executor settings) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.item.TaskProcessingItemProcessor;
+import com.example.springbatch.model.Task;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * `taskChunkJob` の定義。未処理タスクを {@link TaskProcessingItemProcessor} でチャンク処理する。
+ */
+@Configuration
+public class TaskChunkJobConfig extends AbstractTaskChunkJobConfiguration {
+
+    public static final String JOB_NAME = "taskChunkJob";
+
+    @Override
+    protected String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    protected Class<? extends ItemProcessor<Task, Task>> processorClass() {
+        return TaskProcessingItemProcessor.class;
+    }
+}
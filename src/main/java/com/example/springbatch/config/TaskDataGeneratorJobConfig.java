@@ -0,0 +1,24 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.tasklet.TaskDataGeneratorTasklet;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * `taskDataGeneratorJob` の定義。`TaskDataGeneratorTasklet` で性能検証用のTaskデータを生成する。
+ */
+@Configuration
+public class TaskDataGeneratorJobConfig extends AbstractSingleTaskletJobConfiguration {
+
+    public static final String JOB_NAME = "taskDataGeneratorJob";
+
+    @Override
+    protected String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    protected Class<? extends Tasklet> taskletClass() {
+        return TaskDataGeneratorTasklet.class;
+    }
+}
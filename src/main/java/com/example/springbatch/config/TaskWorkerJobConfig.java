@@ -0,0 +1,24 @@
+package com.example.springbatch.config;
+
+import com.example.springbatch.worker.TaskWorkerTasklet;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * `taskWorkerJob` の定義。`TaskWorkerTasklet` で共有の作業キューから未処理タスクを取得して処理する。
+ */
+@Configuration
+public class TaskWorkerJobConfig extends AbstractSingleTaskletJobConfiguration {
+
+    public static final String JOB_NAME = "taskWorkerJob";
+
+    @Override
+    protected String jobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    protected Class<? extends Tasklet> taskletClass() {
+        return TaskWorkerTasklet.class;
+    }
+}
\ No newline at end of file
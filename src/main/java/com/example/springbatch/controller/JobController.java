@@ -1,21 +1,37 @@
 package com.example.springbatch.controller;
 
-import com.example.springbatch.model.Task;
-import com.example.springbatch.model.BatchExecution;
-import com.example.springbatch.repository.TaskRepository;
-import com.example.springbatch.repository.BatchExecutionRepository;
+import com.example.springbatch.config.TaskDataGeneratorJobConfig;
+import com.example.springbatch.model.DashboardSummary;
+import com.example.springbatch.model.JobExecutionSummary;
+import com.example.springbatch.model.LaunchTicket;
+import com.example.springbatch.service.DashboardService;
+import com.example.springbatch.service.JobEventPublisher;
+import com.example.springbatch.service.JobExecutionHistoryService;
 import com.example.springbatch.service.JobService;
+import com.example.springbatch.service.TaskStatisticsService;
+import com.example.springbatch.tasklet.TaskDataGeneratorTasklet;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Objects;
 
 /**
  * Job管理コントローラー
@@ -23,70 +39,67 @@ import java.util.concurrent.CompletableFuture;
 @Controller
 public class JobController {
 
+    // Job実行履歴APIで1回に取得できる最大件数
+    private static final int MAX_HISTORY_LIMIT = 500;
+
     @Autowired
     private JobService jobService;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private JobExecutionHistoryService jobExecutionHistoryService;
+
+    @Autowired
+    private JobEventPublisher jobEventPublisher;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
     
     @Autowired
-    private BatchExecutionRepository batchExecutionRepository;
+    private DashboardService dashboardService;
 
     /**
      * Job管理ページを表示
      */
     @GetMapping("/")
     public String index(Model model) {
-        // 全てのJob実行記録を取得
-        List<JobExecution> jobExecutions = jobService.getAllJobExecutions();
-        model.addAttribute("jobExecutions", jobExecutions);
+        // 直近のJob実行記録・バッチ実行記録・データ統計を取得（短時間キャッシュされる）
+        DashboardSummary summary = dashboardService.getSummary();
+        model.addAttribute("jobExecutions", summary.getJobExecutions());
+        model.addAttribute("batchExecutions", summary.getBatchExecutions());
+        model.addAttribute("totalCount", summary.getTotalCount());
+        model.addAttribute("processedCount", summary.getProcessedCount());
+        model.addAttribute("unprocessedCount", summary.getUnprocessedCount());
         
         // 実行中のJobを取得
         List<JobExecution> runningJobs = jobService.getRunningJobExecutions();
         model.addAttribute("runningJobs", runningJobs);
         
-        // BatchExecution記録を取得
-        List<BatchExecution> batchExecutions = batchExecutionRepository.findAll();
-        model.addAttribute("batchExecutions", batchExecutions);
-        
-        // データ統計を取得
-        long totalCount = taskRepository.count();
-        long processedCount = taskRepository.countProcessed();
-        long unprocessedCount = taskRepository.countUnprocessed();
-        
-        model.addAttribute("totalCount", totalCount);
-        model.addAttribute("processedCount", processedCount);
-        model.addAttribute("unprocessedCount", unprocessedCount);
-        
         return "index";
     }
 
     /**
      * 非同期でJobを開始（単一異步Step Job）
+     * <p>
+     * Job実行を作成した時点で202と実行IDを返し、{@code Location} ヘッダーにJobステータスのURLを設定する。
+     * 起動用の実行器が同時実行数の上限に達している場合は503を返す。
      */
     @PostMapping("/api/jobs/start")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> startJob() {
         Map<String, Object> response = new HashMap<>();
-        
+
         try {
-            // 実行中のJobがあるかチェック
-            if (jobService.hasRunningJobs()) {
-                response.put("success", false);
-                response.put("message", "既にJobが実行中です。完了後に新しいJobを開始してください");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            CompletableFuture<Long> future = jobService.startJobAsync();
-            Long executionId = future.get();
-            
-            response.put("success", true);
-            response.put("message", "単一異步Step Job開始成功");
-            response.put("executionId", executionId);
-            response.put("status", "STARTED");
-            response.put("jobType", "singleAsyncJob");
-            
-            return ResponseEntity.ok(response);
+            // 実行中のJobがある場合は起動しない
+            Long executionId = jobService.startJobAsync();
+            return acceptJobStart(response, executionId, "singleAsyncJob", "単一異步Step Job開始成功");
+        } catch (JobExecutionAlreadyRunningException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (TaskRejectedException e) {
+            response.put("success", false);
+            response.put("message", "Job開始失敗: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
         } catch (Exception e) {
             response.put("success", false);
             response.put("message", "Job開始失敗: " + e.getMessage());
@@ -96,6 +109,9 @@ public class JobController {
 
     /**
      * 指定したJobを開始
+     * <p>
+     * Job実行を作成した時点で202と実行IDを返し、{@code Location} ヘッダーにJobステータスのURLを設定する。
+     * 起動用の実行器が同時実行数の上限に達している場合は503を返す。
      */
     @PostMapping("/api/jobs/{jobName}/start")
     @ResponseBody
@@ -103,33 +119,83 @@ public class JobController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            if (jobService.hasRunningJobs(jobName)) {
-                response.put("success", false);
-                response.put("message", "指定したJobが既に実行中です: " + jobName);
-                return ResponseEntity.badRequest().body(response);
-            }
+            // 指定したJobが実行中の場合は起動しない
+            Long executionId = jobService.startJobAsync(jobName);
+            return acceptJobStart(response, executionId, jobName, "Job開始成功: " + jobName);
+        } catch (IllegalArgumentException | JobExecutionAlreadyRunningException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (TaskRejectedException e) {
+            response.put("success", false);
+            response.put("message", "Job開始失敗: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Job開始失敗: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * 指定したJobをJobパラメータの組ごとに一括で起動
+     * <p>
+     * リクエスト本文はJobパラメータの組の配列（例: {@code [{"priority": 1}, {"priority": 2}]}）。
+     * Jobごとの同時実行数の上限を超える分は起動待ちとなり、受付票のIDで起動後の実行IDを照会できる。
+     */
+    @PostMapping("/api/jobs/{jobName}/bulk-start")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> startJobsInBulk(@PathVariable String jobName,
+                                                               @RequestBody List<Map<String, Object>> parameterSets) {
+        Map<String, Object> response = new HashMap<>();
 
-            CompletableFuture<Long> future = jobService.startJobAsync(jobName);
-            Long executionId = future.get();
+        try {
+            List<LaunchTicket> tickets = jobService.startJobs(jobName,
+                    parameterSets.stream().map(this::toJobParameters).toList());
 
             response.put("success", true);
-            response.put("message", "Job開始成功: " + jobName);
-            response.put("executionId", executionId);
-            response.put("status", "STARTED");
             response.put("jobType", jobName);
+            response.put("launches", tickets);
+            response.put("executionIds", tickets.stream()
+                    .map(LaunchTicket::getExecutionId)
+                    .filter(Objects::nonNull)
+                    .toList());
+            response.put("queued", tickets.stream()
+                    .filter(ticket -> ticket.getStatus() == LaunchTicket.Status.QUEUED)
+                    .count());
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.accepted().body(response);
         } catch (IllegalArgumentException e) {
             response.put("success", false);
             response.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             response.put("success", false);
-            response.put("message", "Job開始失敗: " + e.getMessage());
+            response.put("message", "Job一括開始失敗: " + e.getMessage());
             return ResponseEntity.internalServerError().body(response);
         }
     }
 
+    /**
+     * 一括起動の受付票を取得
+     */
+    @GetMapping("/api/jobs/launches/{ticketId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getLaunchTicket(@PathVariable String ticketId) {
+        Map<String, Object> response = new HashMap<>();
+
+        LaunchTicket ticket = jobService.getLaunchTicket(ticketId);
+        if (ticket == null) {
+            response.put("success", false);
+            response.put("message", "指定された受付票が見つかりません");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
+        response.put("success", true);
+        response.put("launch", ticket);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Jobを停止
      */
@@ -157,6 +223,42 @@ public class JobController {
         }
     }
 
+    /**
+     * 失敗または停止したJob実行を再実行
+     * <p>
+     * 同じJobインスタンスの続きから実行する。Job実行を作成した時点で202と新しい実行IDを返し、
+     * {@code Location} ヘッダーにJobステータスのURLを設定する。
+     * 再実行できない状態のJob実行は400、同じJobインスタンスが実行中・完了済みの場合は409を返す。
+     */
+    @PostMapping("/api/jobs/{executionId}/restart")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> restartJob(@PathVariable Long executionId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            JobExecution jobExecution = jobService.restartJob(executionId);
+            String jobName = jobExecution.getJobInstance().getJobName();
+            return acceptJobStart(response, jobExecution.getId(), jobName, "Job再実行成功: " + jobName);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (JobInstanceAlreadyCompleteException | JobRestartException | JobExecutionAlreadyRunningException e) {
+            // 再実行の開始後に他の要求が同じJobインスタンスを再実行・完了させた場合
+            response.put("success", false);
+            response.put("message", "Job再実行失敗: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (TaskRejectedException e) {
+            response.put("success", false);
+            response.put("message", "Job再実行失敗: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Job再実行失敗: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * Jobステータスを取得
      */
@@ -189,36 +291,155 @@ public class JobController {
         }
     }
 
+    /**
+     * Job実行履歴を取得
+     * <p>
+     * 実行IDの降順で返す。次のページはレスポンスの nextCursor を before に指定して取得する。
+     */
+    @GetMapping("/api/jobs/executions")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getJobExecutions(@RequestParam(required = false) String jobName,
+                                                                @RequestParam(required = false) String status,
+                                                                @RequestParam(required = false) Long before,
+                                                                @RequestParam(defaultValue = "50") int limit) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            BatchStatus batchStatus = status != null ? BatchStatus.valueOf(status.toUpperCase()) : null;
+            int pageSize = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+            List<JobExecutionSummary> executions = jobExecutionHistoryService.findExecutions(
+                    jobName, batchStatus, before, pageSize);
+
+            response.put("success", true);
+            response.put("executions", executions);
+            response.put("nextCursor", executions.size() == pageSize
+                    ? executions.get(executions.size() - 1).getId()
+                    : null);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", "不正なステータスです: " + status);
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Job実行履歴取得失敗: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * Job・Stepの状態遷移と進捗をServer-Sent Eventsで配信
+     */
+    @GetMapping(value = "/api/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamJobEvents() {
+        return jobEventPublisher.subscribe();
+    }
+
     /**
      * テストデータを初期化
+     * <p>
+     * 既存データを削除し、{@code taskDataGeneratorJob} で指定件数・分布のTaskを生成する。
+     * Job実行を作成した時点で202と実行IDを返し、{@code Location} ヘッダーにJobステータスのURLを設定する。
+     * タスクテーブルを読み書きするJobの実行中は400を返す。
      */
     @PostMapping("/api/data/init")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> initTestData() {
+    public ResponseEntity<Map<String, Object>> initTestData(@RequestParam(defaultValue = "20") long rows,
+                                                            @RequestParam(defaultValue = "1,1,1") String priorityWeights,
+                                                            @RequestParam(defaultValue = "0") double processedRatio,
+                                                            @RequestParam(defaultValue = "0") double failedRatio,
+                                                            @RequestParam(required = false) Long seed) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            // 既存データをクリア
-            taskRepository.deleteAll();
-            
-            // テストデータを作成
-            for (int i = 1; i <= 20; i++) {
-                Task task = new Task(
-                    "Task-" + i,
-                    "タスク" + i + "の説明",
-                    (i % 3) + 1  // 優先度1-3
-                );
-                taskRepository.save(task);
-            }
+            JobParameters parameters = new JobParametersBuilder()
+                    .addLong(TaskDataGeneratorTasklet.ROWS, rows)
+                    .addString(TaskDataGeneratorTasklet.PRIORITY_WEIGHTS, priorityWeights)
+                    .addDouble(TaskDataGeneratorTasklet.PROCESSED_RATIO, processedRatio)
+                    .addDouble(TaskDataGeneratorTasklet.FAILED_RATIO, failedRatio)
+                    .addLong(TaskDataGeneratorTasklet.SEED, seed != null ? seed : System.currentTimeMillis())
+                    .addString(TaskDataGeneratorTasklet.TRUNCATE, "true")
+                    .toJobParameters();
+            Long executionId = jobService.startTaskDataGeneration(parameters);
+            return acceptJobStart(response, executionId, TaskDataGeneratorJobConfig.JOB_NAME,
+                    "テストデータ初期化開始、" + rows + "件のレコードを作成します");
+        } catch (JobExecutionAlreadyRunningException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (TaskRejectedException e) {
+            response.put("success", false);
+            response.put("message", "テストデータ初期化失敗: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "テストデータ初期化失敗: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * タスク統計を再集計
+     * <p>
+     * 統計の記録を伴わない方法でタスクテーブルを更新した場合に使用する。
+     */
+    @PostMapping("/api/data/statistics/rebuild")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> rebuildStatistics() {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            taskStatisticsService.rebuild();
+            dashboardService.evict();
+            TaskStatisticsService.Snapshot statistics = taskStatisticsService.getSnapshot();
             
             response.put("success", true);
-            response.put("message", "テストデータ初期化成功、20件のレコードを作成しました");
+            response.put("totalCount", statistics.totalCount());
+            response.put("processedCount", statistics.processedCount());
+            response.put("unprocessedCount", statistics.unprocessedCount());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("success", false);
-            response.put("message", "テストデータ初期化失敗: " + e.getMessage());
+            response.put("message", "タスク統計再集計失敗: " + e.getMessage());
             return ResponseEntity.internalServerError().body(response);
         }
     }
+
+    // JSONの数値は整数ならLong、小数ならDouble、それ以外は文字列のJobパラメータとする
+    private JobParameters toJobParameters(Map<String, Object> values) {
+        JobParametersBuilder builder = new JobParametersBuilder();
+        values.forEach((key, value) -> {
+            if (value instanceof Integer || value instanceof Long) {
+                builder.addLong(key, ((Number) value).longValue());
+            } else if (value instanceof Number number) {
+                builder.addDouble(key, number.doubleValue());
+            } else if (value != null) {
+                builder.addString(key, value.toString());
+            }
+        });
+        return builder.toJobParameters();
+    }
+
+    /**
+     * Job実行の受付を202のレスポンスに変換し、{@code Location} ヘッダーにJobステータスのURLを設定
+     */
+    private ResponseEntity<Map<String, Object>> acceptJobStart(Map<String, Object> response,
+                                                               Long executionId,
+                                                               String jobName,
+                                                               String message) {
+        response.put("success", true);
+        response.put("message", message);
+        response.put("executionId", executionId);
+        response.put("status", BatchStatus.STARTING.toString());
+        response.put("jobType", jobName);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/jobs/{executionId}/status")
+                        .buildAndExpand(executionId)
+                        .toUri())
+                .body(response);
+    }
 }
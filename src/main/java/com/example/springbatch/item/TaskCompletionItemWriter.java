@@ -0,0 +1,50 @@
+package com.example.springbatch.item;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.service.TaskCompletionService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * チャンク内のタスクを1回のUPDATEで処理済みにするItemWriter。
+ * <p>
+ * タスクごとのUPDATEを発行しない代わりに、処理済みフラグ・処理日時・ステータス以外の変更は保存しない。
+ * 完了状態の記録のみが必要なJobで {@link TaskItemWriter} の代わりに使用する。
+ */
+@Component
+public class TaskCompletionItemWriter implements ItemWriter<Task> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCompletionItemWriter.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskCompletionService taskCompletionService;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Override
+    public void write(Chunk<? extends Task> chunk) {
+        List<Long> ids = chunk.getItems().stream().map(Task::getId).toList();
+
+        // Processorによる変更がタスクごとのUPDATEとしてflushされないよう、先に切り離す
+        chunk.getItems().forEach(entityManager::detach);
+
+        int updated = taskCompletionService.completeByIds(ids, batchProperties.getStatus().getCompleted(), LocalDateTime.now());
+        if (updated != ids.size()) {
+            logger.warn("処理済みにしたタスク数が一致しません - 対象: {}, 更新: {}", ids.size(), updated);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.springbatch.item;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 未処理タスクをID順、または優先度順にページ単位で読み込むItemReader。
+ * <p>
+ * 書き込み側で処理済みフラグが更新されるとOFFSETベースのページングでは行が読み飛ばされるため、
+ * 最後に読み込んだIDを起点に次のページを取得する（キーセットページング）。
+ * 優先度順（{@link BatchProperties.ReadOrder#PRIORITY}）では優先度の小さいものから1つの優先度ずつ、
+ * その優先度のタスクをIDを起点にページングし、読み終えたら次の優先度に進む。1回の検索の条件を優先度の等値とIDの範囲とするため、
+ * (processed, priority, id) のインデックスを範囲検索できる。優先度付きのタスクを読み終えてから、優先度が未設定のタスクをID順に読み込む。
+ * 最後に読み込んだ位置はExecutionContextに保存され、再起動時はその続きから読み込む。
+ * <p>
+ * パーティション実行時は、StepのExecutionContextに設定された {@link #MIN_ID_KEY} / {@link #MAX_ID_KEY} /
+ * {@link #PRIORITY_KEY} / {@link #WITHOUT_PRIORITY_KEY} の範囲に読み込み対象を限定する。
+ * <p>
+ * 状態を持つため、Step実行ごとにインスタンスを生成すること（stepスコープで登録する）。
+ */
+public class TaskItemReader implements ItemStreamReader<Task> {
+
+    /** 読み込み対象の最小ID（この値を含む） */
+    public static final String MIN_ID_KEY = "taskItemReader.minId";
+
+    /** 読み込み対象の最大ID（この値を含む） */
+    public static final String MAX_ID_KEY = "taskItemReader.maxId";
+
+    /** 読み込み対象の優先度 */
+    public static final String PRIORITY_KEY = "taskItemReader.priority";
+
+    /** 優先度が未設定のタスクのみを読み込むか（trueの場合） */
+    public static final String WITHOUT_PRIORITY_KEY = "taskItemReader.withoutPriority";
+
+    static final String LAST_READ_ID_KEY = "taskItemReader.lastReadId";
+
+    static final String LAST_READ_PRIORITY_KEY = "taskItemReader.lastReadPriority";
+
+    // 優先度順の読み込みで、優先度が未設定のタスクを読み込んでいることを表す最後の優先度
+    private static final int WITHOUT_PRIORITY = Integer.MAX_VALUE;
+
+    // 優先度順の読み込みで、まだタスクを読み込んでいないことを表す最後の優先度
+    private static final int NO_PRIORITY_READ = Integer.MIN_VALUE;
+
+    private final TaskRepository taskRepository;
+
+    private final int pageSize;
+
+    private final BatchProperties.ReadOrder readOrder;
+
+    private final Deque<Task> buffer = new ArrayDeque<>();
+
+    private long lastReadId;
+
+    private int lastReadPriority;
+
+    private long minId;
+
+    private long maxId;
+
+    private Integer priority;
+
+    private boolean withoutPriority;
+
+    private boolean prioritizedExhausted;
+
+    private boolean exhausted;
+
+    public TaskItemReader(TaskRepository taskRepository, int pageSize) {
+        this(taskRepository, pageSize, BatchProperties.ReadOrder.ID);
+    }
+
+    public TaskItemReader(TaskRepository taskRepository, int pageSize, BatchProperties.ReadOrder readOrder) {
+        this.taskRepository = taskRepository;
+        this.pageSize = pageSize;
+        this.readOrder = readOrder;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        buffer.clear();
+        prioritizedExhausted = false;
+        exhausted = false;
+        minId = executionContext.getLong(MIN_ID_KEY, 1L);
+        maxId = executionContext.getLong(MAX_ID_KEY, Long.MAX_VALUE);
+        priority = executionContext.containsKey(PRIORITY_KEY)
+                ? executionContext.getInt(PRIORITY_KEY)
+                : null;
+        withoutPriority = Boolean.TRUE.equals(executionContext.get(WITHOUT_PRIORITY_KEY));
+        lastReadId = executionContext.containsKey(LAST_READ_ID_KEY)
+                ? executionContext.getLong(LAST_READ_ID_KEY)
+                : minId - 1;
+        lastReadPriority = executionContext.getInt(LAST_READ_PRIORITY_KEY, NO_PRIORITY_READ);
+    }
+
+    @Override
+    public Task read() {
+        if (buffer.isEmpty() && !exhausted) {
+            fetchNextPage();
+        }
+
+        Task task = buffer.poll();
+        if (task != null) {
+            lastReadId = task.getId();
+            lastReadPriority = task.getPriority() != null ? task.getPriority() : WITHOUT_PRIORITY;
+        }
+        return task;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_READ_ID_KEY, lastReadId);
+        if (isPriorityOrder()) {
+            executionContext.putInt(LAST_READ_PRIORITY_KEY, lastReadPriority);
+        }
+    }
+
+    @Override
+    public void close() {
+        buffer.clear();
+    }
+
+    // 優先度で分割されたパーティションは単一の優先度（または優先度の未設定）のみを読み込むため、ID順で読み込む
+    private boolean isPriorityOrder() {
+        return readOrder == BatchProperties.ReadOrder.PRIORITY && priority == null && !withoutPriority;
+    }
+
+    private void fetchNextPage() {
+        Pageable pageable = PageRequest.of(0, pageSize);
+        if (!isPriorityOrder()) {
+            List<Task> page;
+            if (withoutPriority) {
+                page = taskRepository.findUnprocessedWithoutPriorityInRange(lastReadId, maxId, pageable);
+            } else if (priority != null) {
+                page = taskRepository.findUnprocessedWithPriorityInRange(priority, lastReadId, maxId, pageable);
+            } else {
+                page = taskRepository.findUnprocessedInRange(lastReadId, maxId, pageable);
+            }
+            buffer.addAll(page);
+            exhausted = page.size() < pageSize;
+            return;
+        }
+
+        if (lastReadPriority != WITHOUT_PRIORITY) {
+            // 読み込み中の優先度の続きを読み込み、読み終えたら次の優先度を範囲の先頭から読み込む
+            Integer currentPriority = lastReadPriority != NO_PRIORITY_READ ? lastReadPriority : null;
+            long afterId = lastReadId;
+            while (!prioritizedExhausted) {
+                if (currentPriority != null) {
+                    List<Task> page = taskRepository.findUnprocessedWithPriorityInRange(
+                            currentPriority, afterId, maxId, pageable);
+                    if (!page.isEmpty()) {
+                        buffer.addAll(page);
+                        return;
+                    }
+                }
+                currentPriority = taskRepository.findNextUnprocessedPriorityInRange(
+                        currentPriority != null ? currentPriority : NO_PRIORITY_READ, minId, maxId);
+                prioritizedExhausted = currentPriority == null;
+                afterId = minId - 1;
+            }
+        }
+
+        // 優先度付きのタスクを読み終えたら、優先度が未設定のタスクを範囲の先頭からID順に読み込む
+        long afterId = lastReadPriority == WITHOUT_PRIORITY ? lastReadId : minId - 1;
+        List<Task> page = taskRepository.findUnprocessedWithoutPriorityInRange(afterId, maxId, pageable);
+        buffer.addAll(page);
+        exhausted = page.size() < pageSize;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.springbatch.item;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.service.TaskStatisticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 処理済みタスクをチャンク単位でまとめて保存するItemWriter。
+ * <p>
+ * 新規タスクはpersist、管理対象外のタスクはmergeし、コミット間隔ごとにflush/clearする。
+ * {@code hibernate.jdbc.batch_size} をコミット間隔に合わせているため、1回のflushで
+ * INSERT/UPDATEがそれぞれ1回のJDBCバッチとして送信され、永続化コンテキストも肥大化しない。
+ * 追加件数と処理済み件数の増減は同じトランザクションで {@link TaskStatisticsService} に記録する。
+ */
+@Component
+public class TaskItemWriter implements ItemWriter<Task> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Override
+    public void write(Chunk<? extends Task> chunk) {
+        int flushInterval = batchProperties.getChunk().getCommitInterval();
+        int pending = 0;
+        long insertedCount = 0;
+        long processedDelta = 0;
+
+        for (Task task : chunk) {
+            boolean processed = Boolean.TRUE.equals(task.getProcessed());
+            if (task.getId() == null) {
+                insertedCount++;
+                processedDelta += processed ? 1 : 0;
+            } else if (processed != task.isPersistedProcessed()) {
+                processedDelta += processed ? 1 : -1;
+            }
+
+            if (task.getId() == null) {
+                entityManager.persist(task);
+            } else if (!entityManager.contains(task)) {
+                entityManager.merge(task);
+            }
+            // 管理対象のタスクは変更検知によりflush時に更新される
+
+            if (++pending >= flushInterval) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+
+        if (pending > 0) {
+            flushAndClear();
+        }
+        taskStatisticsService.record(insertedCount, processedDelta);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.springbatch.item;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * サンプルのタスク処理。タスク名を大文字に変換し、処理済みとしてマークする。
+ */
+@Component
+public class TaskProcessingItemProcessor implements ItemProcessor<Task, Task> {
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Override
+    public Task process(Task task) {
+        if (task.getTaskName() != null) {
+            task.setTaskName(task.getTaskName().toUpperCase());
+        }
+        task.setStatus(batchProperties.getStatus().getCompleted());
+        task.setProcessed(true);
+        task.setProcessedAt(LocalDateTime.now());
+        return task;
+    }
+}
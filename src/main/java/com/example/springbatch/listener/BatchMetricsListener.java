@@ -0,0 +1,64 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.metrics.BatchMetrics;
+import com.example.springbatch.service.JobStopManager;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Job・Stepの起動待ち時間、所要時間、停止要求から停止までの時間を {@link BatchMetrics} に記録するリスナー
+ */
+@Component
+public class BatchMetricsListener implements JobExecutionListener, StepExecutionListener {
+
+    @Autowired
+    private BatchMetrics batchMetrics;
+
+    @Autowired
+    private JobStopManager jobStopManager;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        if (jobExecution.getCreateTime() != null && jobExecution.getStartTime() != null) {
+            batchMetrics.recordLaunchLatency(jobExecution.getJobInstance().getJobName(),
+                    Duration.between(jobExecution.getCreateTime(), jobExecution.getStartTime()));
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        if (jobExecution.getStartTime() != null) {
+            batchMetrics.recordJobDuration(jobName, jobExecution.getStatus(),
+                    elapsed(jobExecution.getStartTime(), jobExecution.getEndTime()));
+        }
+
+        Long stopRequestedAt = jobStopManager.getStopRequestedAt(jobExecution.getId());
+        if (stopRequestedAt != null) {
+            batchMetrics.recordStopLatency(jobName, Duration.ofNanos(System.nanoTime() - stopRequestedAt));
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStartTime() != null) {
+            batchMetrics.recordStepDuration(stepExecution.getJobExecution().getJobInstance().getJobName(),
+                    stepExecution.getStepName(), stepExecution.getStatus(),
+                    elapsed(stepExecution.getStartTime(), stepExecution.getEndTime()));
+        }
+        return null;
+    }
+
+    // リスナー呼び出し時点では終了時刻が未設定の場合があるため、その場合は現在時刻までを計測する
+    private Duration elapsed(LocalDateTime startTime, LocalDateTime endTime) {
+        return Duration.between(startTime, endTime != null ? endTime : LocalDateTime.now());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.service.DashboardService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jobの開始・終了時に管理画面の集計値のキャッシュを破棄するリスナー
+ */
+@Component
+public class DashboardCacheListener implements JobExecutionListener {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        dashboardService.evict();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        dashboardService.evict();
+    }
+}
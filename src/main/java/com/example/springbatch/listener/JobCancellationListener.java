@@ -0,0 +1,46 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.service.JobStopManager;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link JobStopManager} の停止トークンをJob実行のライフサイクルに合わせて管理するリスナー
+ * <p>
+ * Job開始時にトークンを発行し、Job終了時にトークンとスレッド参照を破棄する。
+ * 他のリスナーが終了時に停止要求時刻を参照できるよう、最優先で登録して終了時は最後に呼び出されるようにする。
+ * チャンク指向Stepでは、チャンクの完了ごとに停止要求を確認してStepを停止させる。
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JobCancellationListener implements JobExecutionListener, ChunkListener {
+
+    @Autowired
+    private JobStopManager jobStopManager;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        jobStopManager.issueToken(jobExecution.getId());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        jobStopManager.clearStopFlag(jobExecution.getId());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        if (jobStopManager.shouldStop(stepExecution.getJobExecutionId())) {
+            // 次のチャンクの開始前にStepがJobInterruptedExceptionで停止する
+            stepExecution.setTerminateOnly();
+        }
+    }
+}
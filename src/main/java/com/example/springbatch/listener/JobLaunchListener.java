@@ -0,0 +1,22 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.service.JobLaunchCoordinator;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jobの終了を {@link JobLaunchCoordinator} に通知し、起動待ちのJobを起動させるリスナー
+ */
+@Component
+public class JobLaunchListener implements JobExecutionListener {
+
+    @Autowired
+    private JobLaunchCoordinator jobLaunchCoordinator;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        jobLaunchCoordinator.onJobFinished(jobExecution);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.service.JobEventPublisher;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job・Stepの状態遷移とチャンクごとの進捗を {@link JobEventPublisher} へ通知するリスナー
+ * <p>
+ * 進捗イベントはStepごとに {@code app.batch.events.progress-interval} 以上の間隔で間引いて配信する。
+ */
+@Component
+public class JobProgressListener implements JobExecutionListener, StepExecutionListener, ChunkListener {
+
+    @Autowired
+    private JobEventPublisher jobEventPublisher;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    // StepExecution IDごとの最終進捗配信時刻
+    private final ConcurrentHashMap<Long, Long> lastProgressPublishedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        jobEventPublisher.publish("job", jobPayload(jobExecution));
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        jobEventPublisher.publish("job", jobPayload(jobExecution));
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        jobEventPublisher.publish("step", stepPayload(stepExecution));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        lastProgressPublishedAt.remove(stepExecution.getId());
+        jobEventPublisher.publish("step", stepPayload(stepExecution));
+        return null;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        long now = System.nanoTime();
+        long interval = batchProperties.getEvents().getProgressInterval().toNanos();
+        Long previous = lastProgressPublishedAt.get(stepExecution.getId());
+
+        if (previous == null || now - previous >= interval) {
+            lastProgressPublishedAt.put(stepExecution.getId(), now);
+            jobEventPublisher.publish("progress", stepPayload(stepExecution));
+        }
+    }
+
+    private Map<String, Object> jobPayload(JobExecution jobExecution) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("executionId", jobExecution.getId());
+        payload.put("jobName", jobExecution.getJobInstance().getJobName());
+        payload.put("status", jobExecution.getStatus().toString());
+        payload.put("exitCode", jobExecution.getExitStatus().getExitCode());
+        payload.put("startTime", jobExecution.getStartTime());
+        payload.put("endTime", jobExecution.getEndTime());
+        return payload;
+    }
+
+    private Map<String, Object> stepPayload(StepExecution stepExecution) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("executionId", stepExecution.getJobExecutionId());
+        payload.put("stepExecutionId", stepExecution.getId());
+        payload.put("stepName", stepExecution.getStepName());
+        payload.put("status", stepExecution.getStatus().toString());
+        payload.put("readCount", stepExecution.getReadCount());
+        payload.put("writeCount", stepExecution.getWriteCount());
+        payload.put("commitCount", stepExecution.getCommitCount());
+        payload.put("skipCount", stepExecution.getSkipCount());
+        return payload;
+    }
+}
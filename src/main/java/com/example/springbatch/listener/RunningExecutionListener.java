@@ -0,0 +1,27 @@
+package com.example.springbatch.listener;
+
+import com.example.springbatch.service.RunningExecutionRegistry;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jobの開始・終了を {@link RunningExecutionRegistry} に反映するリスナー
+ */
+@Component
+public class RunningExecutionListener implements JobExecutionListener {
+
+    @Autowired
+    private RunningExecutionRegistry runningExecutionRegistry;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        runningExecutionRegistry.register(jobExecution);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        runningExecutionRegistry.unregister(jobExecution);
+    }
+}
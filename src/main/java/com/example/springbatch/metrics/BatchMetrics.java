@@ -0,0 +1,101 @@
+package com.example.springbatch.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+
+/**
+ * バッチ処理のメトリクスを記録するコンポーネント
+ * <p>
+ * メーター名は {@code batch.} で始まり、{@code /actuator/prometheus} から取得できる。
+ */
+@Component
+public class BatchMetrics {
+
+    public static final String JOB_LAUNCH_LATENCY = "batch.job.launch.latency";
+
+    public static final String JOB_DURATION = "batch.job.duration";
+
+    public static final String STEP_DURATION = "batch.step.duration";
+
+    public static final String TASKLET_EXECUTION = "batch.tasklet.execution";
+
+    public static final String JOB_STOP_LATENCY = "batch.job.stop.latency";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Job実行の作成から開始までの待ち時間を記録
+     */
+    public void recordLaunchLatency(String jobName, Duration latency) {
+        Timer.builder(JOB_LAUNCH_LATENCY)
+                .description("Job実行の作成から開始までの待ち時間")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    /**
+     * Job実行の所要時間を記録
+     */
+    public void recordJobDuration(String jobName, BatchStatus status, Duration duration) {
+        Timer.builder(JOB_DURATION)
+                .description("Job実行の所要時間")
+                .tag("job", jobName)
+                .tag("status", status.toString())
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    /**
+     * Step実行の所要時間を記録
+     */
+    public void recordStepDuration(String jobName, String stepName, BatchStatus status, Duration duration) {
+        Timer.builder(STEP_DURATION)
+                .description("Step実行の所要時間")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("status", status.toString())
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    /**
+     * Taskletの業務処理の計測を開始
+     */
+    public Timer.Sample startTaskletExecution() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Taskletの業務処理の所要時間を記録
+     *
+     * @param sample       {@link #startTaskletExecution()} で開始した計測
+     * @param taskletClass Taskletのクラス
+     * @param outcome      処理結果（success / failure）
+     */
+    public void recordTaskletExecution(Timer.Sample sample, Class<?> taskletClass, String outcome) {
+        sample.stop(Timer.builder(TASKLET_EXECUTION)
+                .description("Taskletの業務処理の所要時間")
+                .tag("tasklet", ClassUtils.getUserClass(taskletClass).getSimpleName())
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 停止要求から実際にJobが停止するまでの時間を記録
+     */
+    public void recordStopLatency(String jobName, Duration latency) {
+        Timer.builder(JOB_STOP_LATENCY)
+                .description("停止要求からJob停止までの時間")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .record(latency);
+    }
+}
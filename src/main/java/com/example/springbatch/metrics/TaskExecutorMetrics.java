@@ -0,0 +1,172 @@
+package com.example.springbatch.metrics;
+
+import com.example.springbatch.concurrent.PrioritizedTask;
+import com.example.springbatch.concurrent.SubmissionPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code taskExecutor} の実行中タスク数・待機タスク数・拒否数・待機時間を計測するコンポーネント
+ * <p>
+ * Job別の実行器（バルクヘッド）には、実行器名を指定したインスタンスを個別に作成して登録する。
+ * <p>
+ * {@link TaskDecorator} として実行器に登録し、投入から実行開始までを待機、実行中を実行中として数える。
+ * スレッドプール方式とは異なりキューを持たない仮想スレッド方式でも、同時実行数の上限で待たされているタスクを待機として数えられる。
+ * <p>
+ * 投入時に {@link SubmissionPriority} で設定された優先度を投入時刻と合わせてタスクに保持し、
+ * 優先度順のキュー（{@link com.example.springbatch.concurrent.PriorityAgingBlockingQueue}）が実行順の判定に使用する。
+ */
+@Component
+public class TaskExecutorMetrics implements TaskDecorator, MeterBinder {
+
+    private static final String DEFAULT_EXECUTOR_NAME = "taskExecutor";
+
+    private final String executorName;
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final AtomicLong rejectedTasks = new AtomicLong();
+
+    // 実行を開始したタスク数と、投入から実行開始までの待機時間の累計（ナノ秒）
+    private final LongAdder startedTasks = new LongAdder();
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    private final LongAdder completedTasks = new LongAdder();
+
+    private volatile Timer queueWaitTimer;
+
+    public TaskExecutorMetrics() {
+        this(DEFAULT_EXECUTOR_NAME);
+    }
+
+    /**
+     * @param executorName メトリクスの {@code name} タグに設定する実行器名
+     */
+    public TaskExecutorMetrics(String executorName) {
+        this.executorName = executorName;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("batch.executor.active", activeTasks, AtomicInteger::get)
+                .description("実行中のタスク数")
+                .tag("name", executorName)
+                .register(registry);
+        Gauge.builder("batch.executor.queued", queuedTasks, AtomicInteger::get)
+                .description("実行開始を待っているタスク数")
+                .tag("name", executorName)
+                .register(registry);
+        FunctionCounter.builder("batch.executor.rejected", rejectedTasks, AtomicLong::get)
+                .description("実行を拒否されたタスク数")
+                .tag("name", executorName)
+                .register(registry);
+        queueWaitTimer = Timer.builder("batch.executor.queue.wait")
+                .description("タスクの投入から実行開始までの待機時間")
+                .tag("name", executorName)
+                .register(registry);
+    }
+
+    public String getExecutorName() {
+        return executorName;
+    }
+
+    public int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+
+    /**
+     * 累計値のスナップショットを取得。2回の取得結果の差分から区間ごとの待機時間とスループットを求める
+     */
+    public Totals getTotals() {
+        return new Totals(startedTasks.sum(), queueWaitNanos.sum(), completedTasks.sum());
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        queuedTasks.incrementAndGet();
+        return new TrackedTask(runnable);
+    }
+
+    /**
+     * 拒否されたタスクを計測してから委譲先のハンドラーに処理させる {@link RejectedExecutionHandler} を作成
+     */
+    public RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+        return (runnable, executor) -> {
+            if (runnable instanceof TrackedTask) {
+                queuedTasks.decrementAndGet();
+            }
+            rejectedTasks.incrementAndGet();
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+
+    /**
+     * 計測値の累計
+     *
+     * @param startedTasks   実行を開始したタスク数
+     * @param queueWaitNanos 実行開始までの待機時間の合計（ナノ秒）
+     * @param completedTasks 実行を終えたタスク数
+     */
+    public record Totals(long startedTasks, long queueWaitNanos, long completedTasks) {
+    }
+
+    private final class TrackedTask implements PrioritizedTask {
+
+        private final Runnable delegate;
+
+        private final long submittedAt = System.nanoTime();
+
+        private final Integer priority = SubmissionPriority.current();
+
+        private TrackedTask(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Integer getPriority() {
+            return priority;
+        }
+
+        @Override
+        public long getSubmittedAt() {
+            return submittedAt;
+        }
+
+        @Override
+        public void run() {
+            long waitNanos = System.nanoTime() - submittedAt;
+            queuedTasks.decrementAndGet();
+            activeTasks.incrementAndGet();
+            startedTasks.increment();
+            queueWaitNanos.add(waitNanos);
+            Timer timer = queueWaitTimer;
+            if (timer != null) {
+                timer.record(waitNanos, TimeUnit.NANOSECONDS);
+            }
+            try {
+                delegate.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                completedTasks.increment();
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class BatchExecution {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "batch_execution_seq")
+    @SequenceGenerator(name = "batch_execution_seq", sequenceName = "batch_execution_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "batch_id", unique = true)
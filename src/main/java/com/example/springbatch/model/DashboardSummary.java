@@ -0,0 +1,53 @@
+package com.example.springbatch.model;
+
+import java.util.List;
+
+/**
+ * 管理画面に表示する集計値
+ * <p>
+ * キャッシュして複数のリクエストで共有するため、生成後は変更しない。
+ */
+public class DashboardSummary {
+    
+    private final List<JobExecutionSummary> jobExecutions;
+    
+    private final List<BatchExecution> batchExecutions;
+    
+    private final long totalCount;
+    
+    private final long processedCount;
+    
+    private final long unprocessedCount;
+    
+    public DashboardSummary(List<JobExecutionSummary> jobExecutions,
+                            List<BatchExecution> batchExecutions,
+                            long totalCount,
+                            long processedCount,
+                            long unprocessedCount) {
+        this.jobExecutions = List.copyOf(jobExecutions);
+        this.batchExecutions = List.copyOf(batchExecutions);
+        this.totalCount = totalCount;
+        this.processedCount = processedCount;
+        this.unprocessedCount = unprocessedCount;
+    }
+    
+    public List<JobExecutionSummary> getJobExecutions() {
+        return jobExecutions;
+    }
+    
+    public List<BatchExecution> getBatchExecutions() {
+        return batchExecutions;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public long getUnprocessedCount() {
+        return unprocessedCount;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.springbatch.model;
+
+import org.springframework.batch.core.BatchStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job実行履歴の一覧表示用サマリー
+ */
+public class JobExecutionSummary {
+
+    private Long id;
+
+    private Long jobInstanceId;
+
+    private String jobName;
+
+    private BatchStatus status;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private String exitCode;
+
+    private String exitDescription;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getJobInstanceId() {
+        return jobInstanceId;
+    }
+
+    public void setJobInstanceId(Long jobInstanceId) {
+        this.jobInstanceId = jobInstanceId;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public BatchStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getExitCode() {
+        return exitCode;
+    }
+
+    public void setExitCode(String exitCode) {
+        this.exitCode = exitCode;
+    }
+
+    public String getExitDescription() {
+        return exitDescription;
+    }
+
+    public void setExitDescription(String exitDescription) {
+        this.exitDescription = exitDescription;
+    }
+
+    @Override
+    public String toString() {
+        return "JobExecutionSummary{" +
+                "id=" + id +
+                ", jobInstanceId=" + jobInstanceId +
+                ", jobName='" + jobName + '\'' +
+                ", status=" + status +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", exitCode='" + exitCode + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springbatch.model;
+
+/**
+ * 一括起動APIで受け付けたJob起動の受付票
+ * <p>
+ * Jobごとの同時実行数の上限に達している場合は {@link Status#QUEUED} で待機し、
+ * 実行中のJobが終了して起動された時点で実行IDが設定される。
+ */
+public class LaunchTicket {
+
+    /**
+     * 受付票の状態
+     */
+    public enum Status {
+        /** 同時実行数の上限に達しているため起動待ち */
+        QUEUED,
+        /** 起動済み */
+        STARTED,
+        /** 起動に失敗 */
+        FAILED
+    }
+
+    private final String id;
+
+    private final String jobName;
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile Long executionId;
+
+    private volatile String message;
+
+    public LaunchTicket(String id, String jobName) {
+        this.id = id;
+        this.jobName = jobName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void started(Long executionId) {
+        this.executionId = executionId;
+        this.status = Status.STARTED;
+    }
+
+    public void failed(Long executionId, String message) {
+        this.executionId = executionId;
+        this.message = message;
+        this.status = Status.FAILED;
+    }
+}
@@ -5,13 +5,28 @@ import java.time.LocalDateTime;
 
 /**
  * タスクエンティティクラス
+ * <p>
+ * 未処理タスクのキーセット読み込み（ID順・優先度順）と状態別の検索のため、
+ * (processed, id) / (processed, priority, id) / (status, id) / (priority, id) に索引を持つ。
+ * ワーカーモードでは、取得したワーカー・取得トークン・リース期限の列で処理中のタスクを管理する。
  */
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_processed_id", columnList = "processed, id"),
+        @Index(name = "idx_task_processed_priority_id", columnList = "processed, priority, id"),
+        @Index(name = "idx_task_status_id", columnList = "status, id"),
+        @Index(name = "idx_task_priority_id", columnList = "priority, id")
+})
 public class Task {
     
+    /**
+     * ID採番シーケンスの割り当てサイズ。1回のシーケンス取得でこの件数分のIDを確保する
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "task_name")
@@ -32,6 +47,19 @@ public class Task {
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
     
+    @Column(name = "claim_owner")
+    private String claimOwner;
+    
+    @Column(name = "claim_token")
+    private String claimToken;
+    
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+    
+    // DBに保存されている処理済みフラグ。統計の増分計算に使用
+    @Transient
+    private boolean persistedProcessed;
+    
     // デフォルトコンストラクタ
     public Task() {
     }
@@ -100,6 +128,44 @@ public class Task {
         this.processedAt = processedAt;
     }
     
+    public String getClaimOwner() {
+        return claimOwner;
+    }
+    
+    public void setClaimOwner(String claimOwner) {
+        this.claimOwner = claimOwner;
+    }
+    
+    public String getClaimToken() {
+        return claimToken;
+    }
+    
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+    
+    public LocalDateTime getClaimExpiresAt() {
+        return claimExpiresAt;
+    }
+    
+    public void setClaimExpiresAt(LocalDateTime claimExpiresAt) {
+        this.claimExpiresAt = claimExpiresAt;
+    }
+    
+    /**
+     * DBから読み込んだ時点、または最後に保存した時点で処理済みだったか
+     */
+    public boolean isPersistedProcessed() {
+        return persistedProcessed;
+    }
+    
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedState() {
+        this.persistedProcessed = Boolean.TRUE.equals(processed);
+    }
+    
     @Override
     public String toString() {
         return "Task{" +
@@ -0,0 +1,51 @@
+package com.example.springbatch.model;
+
+import jakarta.persistence.*;
+
+/**
+ * タスク件数の統計エンティティクラス
+ * <p>
+ * 同時に更新する書き込み処理が同じ行をロックし合わないよう、件数を複数の行（ストライプ）に分散して保持する。
+ * 全体の件数は全ストライプの合計となる。
+ */
+@Entity
+@Table(name = "task_statistics")
+public class TaskStatistics {
+    
+    @Id
+    @Column(name = "stripe")
+    private Integer stripe;
+    
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+    
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+    
+    public TaskStatistics() {
+    }
+    
+    public Integer getStripe() {
+        return stripe;
+    }
+    
+    public void setStripe(Integer stripe) {
+        this.stripe = stripe;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+}
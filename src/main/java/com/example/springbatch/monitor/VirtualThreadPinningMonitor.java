@@ -0,0 +1,116 @@
+package com.example.springbatch.monitor;
+
+import com.example.springbatch.config.BatchProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 仮想スレッドがキャリアスレッドに固定（pinning）された状態を監視するコンポーネント。
+ * <p>
+ * JFRの {@code jdk.VirtualThreadPinned} イベントをアプリケーション内でストリーミング購読し、
+ * 閾値を超えたpinningをスタックトレース付きでログ出力する。
+ * synchronizedブロック内でJDBC呼び出しがブロックしている箇所の特定に利用する。
+ * {@code app.batch.executor.mode} が {@code virtual} の場合のみ起動する。
+ * 検出件数はメトリクス {@code batch.executor.virtual.pinned} として公開する。
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+
+    private RecordingStream recordingStream;
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT)
+                    .withThreshold(batchProperties.getExecutor().getPinningThreshold())
+                    .withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recordingStream = stream;
+            logger.info("仮想スレッドpinning監視を開始しました - 閾値: {}", batchProperties.getExecutor().getPinningThreshold());
+        } catch (RuntimeException e) {
+            logger.warn("JFRが利用できないため、仮想スレッドpinning監視を開始できません", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        BatchProperties.Executor settings = batchProperties.getExecutor();
+        return settings.getMode() == BatchProperties.ExecutorMode.VIRTUAL && settings.isPinningMonitorEnabled();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("batch.executor.virtual.pinned", pinnedCount, AtomicLong::get)
+                .description("閾値を超えて仮想スレッドがキャリアスレッドに固定された回数")
+                .register(registry);
+    }
+
+    /**
+     * 起動後に検出したpinningの件数を取得
+     */
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        String threadName = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        logger.warn("仮想スレッドがキャリアスレッドに固定されました - スレッド: {}, 継続時間: {}ms{}",
+                threadName, event.getDuration().toMillis(), formatStackTrace(event.getStackTrace()));
+    }
+
+    private String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(frame -> "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line:" + frame.getLineNumber() + ")")
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springbatch.partition;
+
+import com.example.springbatch.item.TaskItemReader;
+import com.example.springbatch.repository.TaskRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 未処理タスクのID範囲をgridSize個の連続した範囲に分割するPartitioner。
+ */
+@Component
+public class TaskIdRangePartitioner implements Partitioner {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Long minId = taskRepository.findMinUnprocessedId();
+        Long maxId = taskRepository.findMaxUnprocessedId();
+
+        if (minId == null || maxId == null) {
+            // 未処理タスクがない場合も、空範囲のパーティションを1つ返してStepを正常終了させる
+            partitions.put("partition0", rangeContext(1L, 0L));
+            return partitions;
+        }
+
+        int partitionCount = Math.max(1, gridSize);
+        long rangeSize = Math.max(1L, (maxId - minId + partitionCount) / partitionCount);
+
+        long start = minId;
+        for (int i = 0; start <= maxId; i++) {
+            long end = Math.min(start + rangeSize - 1, maxId);
+            partitions.put("partition" + i, rangeContext(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(TaskItemReader.MIN_ID_KEY, minId);
+        context.putLong(TaskItemReader.MAX_ID_KEY, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springbatch.partition;
+
+import com.example.springbatch.item.TaskItemReader;
+import com.example.springbatch.repository.TaskRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 未処理タスクを優先度ごとに分割するPartitioner。
+ * <p>
+ * パーティション数は未処理タスクに存在する優先度の数となり、gridSizeは利用しない。
+ * 優先度が未設定の未処理タスクがある場合は、それらをまとめて読み込むパーティションを1つ追加する。
+ */
+@Component
+public class TaskPriorityPartitioner implements Partitioner {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        List<Integer> priorities = taskRepository.findUnprocessedPriorities();
+
+        for (Integer priority : priorities) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(TaskItemReader.PRIORITY_KEY, priority);
+            partitions.put("priority" + priority, context);
+        }
+
+        if (taskRepository.existsByProcessedFalseAndPriorityIsNull()) {
+            ExecutionContext context = new ExecutionContext();
+            context.put(TaskItemReader.WITHOUT_PRIORITY_KEY, true);
+            partitions.put("priorityNull", context);
+        }
+
+        if (partitions.isEmpty()) {
+            // 未処理タスクがない場合も、空範囲のパーティションを1つ返してStepを正常終了させる
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(TaskItemReader.MIN_ID_KEY, 1L);
+            context.putLong(TaskItemReader.MAX_ID_KEY, 0L);
+            partitions.put("priorityNone", context);
+        }
+        return partitions;
+    }
+}
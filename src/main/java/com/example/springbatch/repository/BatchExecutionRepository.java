@@ -26,4 +26,9 @@ public interface BatchExecutionRepository extends JpaRepository<BatchExecution,
      * ステータスでバッチ実行記録を検索
      */
     java.util.List<BatchExecution> findByStatus(String status);
+    
+    /**
+     * 指定したJobIDのバッチ実行記録を検索
+     */
+    java.util.List<BatchExecution> findByJobIdIn(java.util.Collection<Long> jobIds);
 }
\ No newline at end of file
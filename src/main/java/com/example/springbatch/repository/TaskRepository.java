@@ -1,23 +1,97 @@
 package com.example.springbatch.repository;
 
 import com.example.springbatch.model.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * タスクデータアクセスインターフェース
+ * <p>
+ * 全件を {@link List} で返す検索は結果を全て永続化コンテキストに保持するため、件数が多い場合は
+ * {@link TaskRepositoryCustom} のストリーミング検索、またはキーセットページングの検索を使用する。
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     
     /**
      * 未処理のタスクを検索
      */
     List<Task> findByProcessedFalse();
     
+    /**
+     * 指定ID範囲内で、指定IDより後ろの未処理タスクをID昇順で検索（キーセットページング用）
+     */
+    @Query("SELECT t FROM Task t WHERE t.processed = false AND t.id > :afterId AND t.id <= :maxId "
+            + "ORDER BY t.id ASC")
+    List<Task> findUnprocessedInRange(@Param("afterId") Long afterId,
+                                      @Param("maxId") Long maxId,
+                                      Pageable pageable);
+    
+    /**
+     * 指定ID範囲内で、指定IDより後ろの指定優先度の未処理タスクをID昇順で検索（キーセットページング用）
+     * <p>
+     * 優先度を等値条件とするため、(processed, priority, id) のインデックスをIDの範囲で走査できる。
+     * 優先度順の読み込みも、優先度ごとにこの検索でページングする。
+     */
+    @Query("SELECT t FROM Task t WHERE t.processed = false AND t.priority = :priority "
+            + "AND t.id > :afterId AND t.id <= :maxId ORDER BY t.id ASC")
+    List<Task> findUnprocessedWithPriorityInRange(@Param("priority") Integer priority,
+                                                  @Param("afterId") Long afterId,
+                                                  @Param("maxId") Long maxId,
+                                                  Pageable pageable);
+    
+    /**
+     * 指定ID範囲内で、指定した優先度より後ろ（値が大きい）の未処理タスクの優先度のうち最小のものを取得（優先度順の読み込み用）
+     *
+     * @return 優先度。該当する未処理タスクがない場合はnull
+     */
+    @Query("SELECT MIN(t.priority) FROM Task t WHERE t.processed = false AND t.priority > :afterPriority "
+            + "AND t.id >= :minId AND t.id <= :maxId")
+    Integer findNextUnprocessedPriorityInRange(@Param("afterPriority") Integer afterPriority,
+                                               @Param("minId") Long minId,
+                                               @Param("maxId") Long maxId);
+    
+    /**
+     * 指定ID範囲内で、指定IDより後ろの優先度が未設定の未処理タスクをID昇順で検索（キーセットページング用）
+     */
+    @Query("SELECT t FROM Task t WHERE t.processed = false AND t.id > :afterId AND t.id <= :maxId "
+            + "AND t.priority IS NULL ORDER BY t.id ASC")
+    List<Task> findUnprocessedWithoutPriorityInRange(@Param("afterId") Long afterId,
+                                                     @Param("maxId") Long maxId,
+                                                     Pageable pageable);
+    
+    /**
+     * 未処理タスクの最小IDを取得
+     */
+    @Query("SELECT MIN(t.id) FROM Task t WHERE t.processed = false")
+    Long findMinUnprocessedId();
+    
+    /**
+     * 未処理タスクの最大IDを取得
+     */
+    @Query("SELECT MAX(t.id) FROM Task t WHERE t.processed = false")
+    Long findMaxUnprocessedId();
+    
+    /**
+     * 未処理タスクに存在する優先度を昇順で取得
+     */
+    @Query("SELECT DISTINCT t.priority FROM Task t WHERE t.processed = false AND t.priority IS NOT NULL ORDER BY t.priority")
+    List<Integer> findUnprocessedPriorities();
+    
+    /**
+     * 優先度が未設定の未処理タスクが存在するか
+     */
+    boolean existsByProcessedFalseAndPriorityIsNull();
+    
     /**
      * 処理済みのタスクを検索
      */
@@ -40,8 +114,51 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     List<Task> findByPriorityOrderByIdAsc(Integer priority);
     
+    /**
+     * 指定IDより後ろの指定優先度のタスクをID昇順で検索（キーセットページング用）
+     */
+    List<Task> findByPriorityAndIdGreaterThanOrderByIdAsc(Integer priority, Long afterId, Pageable pageable);
+    
     /**
      * ステータス別にタスクを検索
      */
     List<Task> findByStatus(String status);
+    
+    /**
+     * 指定IDより後ろの指定ステータスのタスクをID昇順で検索（キーセットページング用）
+     */
+    List<Task> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long afterId, Pageable pageable);
+    
+    /**
+     * 指定IDの未処理タスクを1回のUPDATEで処理済みにする
+     * <p>
+     * 呼び出し元のトランザクション（チャンクのトランザクションなど）に参加し、実行前に保留中の変更をflushする。
+     * 永続化コンテキストはクリアしないため、更新対象のタスクを読み込み済みの場合は呼び出し元で切り離すこと。
+     * 統計を記録しないため、通常は {@link com.example.springbatch.service.TaskCompletionService} を経由する。
+     *
+     * @return 処理済みにした件数（処理済みのタスクは対象外）
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.processed = true, t.processedAt = :processedAt, t.status = :status "
+            + "WHERE t.id IN :ids AND t.processed = false")
+    int completeByIds(@Param("ids") Collection<Long> ids,
+                      @Param("status") String status,
+                      @Param("processedAt") LocalDateTime processedAt);
+    
+    /**
+     * 指定ID範囲（両端を含む）の未処理タスクを1回のUPDATEで処理済みにする
+     * <p>
+     * トランザクション・永続化コンテキスト・統計の扱いは {@link #completeByIds} と同じ。
+     *
+     * @return 処理済みにした件数（処理済みのタスクは対象外）
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.processed = true, t.processedAt = :processedAt, t.status = :status "
+            + "WHERE t.id BETWEEN :fromId AND :toId AND t.processed = false")
+    int completeByIdRange(@Param("fromId") Long fromId,
+                          @Param("toId") Long toId,
+                          @Param("status") String status,
+                          @Param("processedAt") LocalDateTime processedAt);
 }
\ No newline at end of file
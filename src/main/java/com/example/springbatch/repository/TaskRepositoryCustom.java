@@ -0,0 +1,30 @@
+package com.example.springbatch.repository;
+
+import com.example.springbatch.model.Task;
+
+import java.util.stream.Stream;
+
+/**
+ * タスクを一定メモリで読み込むためのストリーミング検索
+ * <p>
+ * 取得したタスクは読み取り専用で読み込まれ、返却時に永続化コンテキストから切り離されるため、
+ * 件数が多くても一次キャッシュに蓄積されない。ストリームはトランザクション内で消費し、
+ * 消費後は try-with-resources などで必ずクローズすること。
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * 未処理のタスクをID昇順でストリーミング取得
+     */
+    Stream<Task> streamUnprocessed();
+
+    /**
+     * 指定ステータスのタスクをID昇順でストリーミング取得
+     */
+    Stream<Task> streamByStatus(String status);
+
+    /**
+     * 指定優先度のタスクをID昇順でストリーミング取得
+     */
+    Stream<Task> streamByPriority(Integer priority);
+}
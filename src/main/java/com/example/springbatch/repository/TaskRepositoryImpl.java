@@ -0,0 +1,57 @@
+package com.example.springbatch.repository;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.stream.Stream;
+
+/**
+ * {@link TaskRepositoryCustom} の実装
+ */
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Override
+    public Stream<Task> streamUnprocessed() {
+        return stream(entityManager.createQuery(
+                "SELECT t FROM Task t WHERE t.processed = false ORDER BY t.id ASC", Task.class));
+    }
+
+    @Override
+    public Stream<Task> streamByStatus(String status) {
+        return stream(entityManager.createQuery(
+                        "SELECT t FROM Task t WHERE t.status = :status ORDER BY t.id ASC", Task.class)
+                .setParameter("status", status));
+    }
+
+    @Override
+    public Stream<Task> streamByPriority(Integer priority) {
+        return stream(entityManager.createQuery(
+                        "SELECT t FROM Task t WHERE t.priority = :priority ORDER BY t.id ASC", Task.class)
+                .setParameter("priority", priority));
+    }
+
+    private Stream<Task> stream(TypedQuery<Task> query) {
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batchProperties.getChunk().getFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream()
+                .map(task -> {
+                    // 一次キャッシュに蓄積させない
+                    entityManager.detach(task);
+                    return task;
+                });
+    }
+}
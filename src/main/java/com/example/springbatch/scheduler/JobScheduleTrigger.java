@@ -0,0 +1,124 @@
+package com.example.springbatch.scheduler;
+
+import com.example.springbatch.config.BatchProperties;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link BatchProperties.Schedule} に従ってJobの起動時刻を決めるTrigger
+ * <p>
+ * 予定起動時刻は揺らぎ（jitter）を加える前の時刻で管理し、次の予定起動時刻は前回の予定起動時刻から求める。
+ * そのため揺らぎが積み重なって起動周期がずれることはない。
+ * 停止中などで予定起動時刻を1回以上過ぎていた場合は {@link BatchProperties.MisfirePolicy} に従い、
+ * 直ちに1回だけ起動するか、次の予定起動時刻まで待つ。
+ * <p>
+ * 同じTriggerの {@link #nextExecution} は前回の起動処理の終了後に呼び出されるため、状態は起動処理から参照できる。
+ */
+public class JobScheduleTrigger implements Trigger {
+
+    private final BatchProperties.Schedule schedule;
+
+    private final CronExpression cronExpression;
+
+    private final ZoneId zone;
+
+    private final Clock clock;
+
+    // 直近の予定起動時刻（揺らぎを含まない）
+    private volatile Instant scheduledTime;
+
+    private volatile boolean misfired;
+
+    /**
+     * @param schedule      起動スケジュール
+     * @param lastFireTime  前回の起動時刻。前回の起動がない場合はnull（現在時刻から数え始める）
+     * @param clock         現在時刻の取得元
+     */
+    public JobScheduleTrigger(BatchProperties.Schedule schedule, Instant lastFireTime, Clock clock) {
+        boolean hasCron = schedule.getCron() != null && !schedule.getCron().isBlank();
+        if (hasCron == (schedule.getFixedRate() != null)) {
+            throw new IllegalArgumentException("cronとfixed-rateのどちらか一方を指定してください");
+        }
+        if (!hasCron && (schedule.getFixedRate().isZero() || schedule.getFixedRate().isNegative())) {
+            throw new IllegalArgumentException("fixed-rateには正の間隔を指定してください: " + schedule.getFixedRate());
+        }
+        this.schedule = schedule;
+        this.cronExpression = hasCron ? CronExpression.parse(schedule.getCron()) : null;
+        this.zone = schedule.getZone() != null ? ZoneId.of(schedule.getZone()) : clock.getZone();
+        this.clock = clock;
+        this.scheduledTime = lastFireTime != null ? lastFireTime : clock.instant();
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant now = clock.instant();
+        Instant next = nextScheduledTime(scheduledTime);
+        misfired = false;
+        if (next != null && next.isBefore(now)) {
+            Instant latestMissed = latestScheduledTime(next, now);
+            if (schedule.getMisfirePolicy() == BatchProperties.MisfirePolicy.COALESCE) {
+                // 過ぎた予定起動時刻のうち最後のものとして、直ちに1回だけ起動する
+                scheduledTime = latestMissed;
+                misfired = true;
+                return now.plus(jitter());
+            }
+            next = nextScheduledTime(latestMissed);
+        }
+        if (next == null) {
+            return null;
+        }
+        scheduledTime = next;
+        return next.plus(jitter());
+    }
+
+    /**
+     * 今回の起動の予定起動時刻（揺らぎを含まない）
+     */
+    public Instant getScheduledTime() {
+        return scheduledTime;
+    }
+
+    /**
+     * 今回の起動が、過ぎた予定起動時刻をまとめた起動か
+     */
+    public boolean isMisfired() {
+        return misfired;
+    }
+
+    private Instant nextScheduledTime(Instant after) {
+        if (cronExpression == null) {
+            return after.plus(schedule.getFixedRate());
+        }
+        ZonedDateTime next = cronExpression.next(after.atZone(zone));
+        return next != null ? next.toInstant() : null;
+    }
+
+    // first以降、now以前の予定起動時刻のうち最後のもの
+    private Instant latestScheduledTime(Instant first, Instant now) {
+        if (cronExpression == null) {
+            long rateNanos = schedule.getFixedRate().toNanos();
+            long periods = Duration.between(first, now).toNanos() / rateNanos;
+            return first.plusNanos(periods * rateNanos);
+        }
+        Instant latest = first;
+        Instant next = nextScheduledTime(latest);
+        while (next != null && !next.isAfter(now)) {
+            latest = next;
+            next = nextScheduledTime(latest);
+        }
+        return latest;
+    }
+
+    private Duration jitter() {
+        long bound = schedule.getJitter().toMillis();
+        return bound > 0 ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound + 1)) : Duration.ZERO;
+    }
+}
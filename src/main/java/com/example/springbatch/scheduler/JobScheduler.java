@@ -0,0 +1,197 @@
+package com.example.springbatch.scheduler;
+
+import com.example.springbatch.config.BatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+/**
+ * {@code app.batch.jobs.<Job名>.schedule} に従って、{@link JobRegistry} に登録されたJobを起動するスケジューラー
+ * <p>
+ * 起動時刻は {@link JobScheduleTrigger} が決め、Jobは {@code asyncJobLauncher} で非同期に起動する。
+ * 同じJobの実行中（他ノードでの実行を含む）は、{@code allow-overlap} が有効でない限り起動せず、実行中のJob実行をWARNで出力する。
+ * 予定起動時刻をJobパラメータ {@value #SCHEDULED_TIME_PARAMETER} としてJobインスタンスを識別するため、
+ * 複数ノードで同じスケジュールを設定しても、同じ予定起動時刻のJobは1つしか実行されない。
+ * <p>
+ * アプリケーションの起動時は、JobRepositoryに記録された前回の起動から予定起動時刻を数えるため、
+ * 停止中に過ぎた予定起動時刻は {@code misfire-policy} に従って扱われる。
+ * 起動結果は {@code batch.scheduler.fires} メトリクスとして記録する。
+ */
+@Component
+public class JobScheduler implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobScheduler.class);
+
+    /**
+     * 予定起動時刻（エポックミリ秒）を保持するJobパラメータ名
+     */
+    public static final String SCHEDULED_TIME_PARAMETER = "scheduledTime";
+
+    // Job名ごとの登録済みスケジュール
+    private final Map<String, ScheduledFuture<?>> schedules = new ConcurrentHashMap<>();
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    @Qualifier("asyncJobLauncher")
+    private JobLauncher asyncJobLauncher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!batchProperties.getScheduler().isEnabled()) {
+            return;
+        }
+        batchProperties.getJobs().forEach((jobName, settings) -> {
+            if (settings.getSchedule() != null) {
+                schedule(jobName, settings);
+            }
+        });
+    }
+
+    private void schedule(String jobName, BatchProperties.JobSettings settings) {
+        Job job = getJob(jobName);
+        BatchProperties.Schedule schedule = settings.getSchedule();
+        JobScheduleTrigger trigger = new JobScheduleTrigger(schedule, lastFireTime(jobName), Clock.systemDefaultZone());
+        ScheduledFuture<?> future = taskScheduler.schedule(() -> fire(job, settings, trigger), trigger);
+        if (future == null) {
+            logger.warn("予定起動時刻がないためスケジュールを登録しません - Job: {}, cron: {}", jobName, schedule.getCron());
+            return;
+        }
+        schedules.put(jobName, future);
+        logger.info("Jobのスケジュールを登録しました - Job: {}, cron: {}, fixed-rate: {}, jitter: {}, 重複起動: {}, 過ぎた起動: {}",
+                jobName, schedule.getCron(), schedule.getFixedRate(), schedule.getJitter(),
+                schedule.isAllowOverlap() ? "許可" : "しない", schedule.getMisfirePolicy());
+    }
+
+    private void fire(Job job, BatchProperties.JobSettings settings, JobScheduleTrigger trigger) {
+        String jobName = job.getName();
+        Instant scheduledTime = trigger.getScheduledTime();
+        if (!settings.getSchedule().isAllowOverlap()) {
+            Set<JobExecution> runningExecutions = jobExplorer.findRunningJobExecutions(jobName);
+            if (!runningExecutions.isEmpty()) {
+                // 異常終了したノードのJob実行は終了時刻が記録されずに残り、以降の起動を止め続けるため警告とする
+                logger.warn("前回のJob実行が終わっていないため起動しません - Job: {}, 予定起動時刻: {}, 実行中のJob実行: {}"
+                                + "（異常終了したノードに残ったJob実行の場合は、FAILEDまたはABANDONEDに更新してください）",
+                        jobName, scheduledTime, describe(runningExecutions));
+                count(jobName, "skipped");
+                return;
+            }
+        }
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong(SCHEDULED_TIME_PARAMETER, scheduledTime.toEpochMilli())
+                .toJobParameters();
+        try {
+            JobExecution jobExecution = asyncJobLauncher.run(job, jobParameters);
+            // 起動用の実行器が同時実行数の上限に達している場合、Job実行は開始されずに失敗として記録される
+            if (jobExecution.getStatus() == BatchStatus.FAILED && jobExecution.getStartTime() == null) {
+                logger.warn("同時に実行できるJobの上限に達しているため起動できませんでした - Job: {}, 実行ID: {}, 予定起動時刻: {}",
+                        jobName, jobExecution.getId(), scheduledTime);
+                count(jobName, "rejected");
+                return;
+            }
+            logger.info("スケジュールによりJobを起動しました - Job: {}, 実行ID: {}, 予定起動時刻: {}{}",
+                    jobName, jobExecution.getId(), scheduledTime, trigger.isMisfired() ? "（過ぎた起動をまとめて実行）" : "");
+            count(jobName, trigger.isMisfired() ? "coalesced" : "launched");
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            // 他のノードが同じ予定起動時刻のJobを起動済み
+            logger.info("同じ予定起動時刻のJobは起動済みです - Job: {}, 予定起動時刻: {}", jobName, scheduledTime);
+            count(jobName, "skipped");
+        } catch (Exception e) {
+            logger.error("スケジュールによるJobの起動に失敗しました - Job: {}, 予定起動時刻: {}", jobName, scheduledTime, e);
+            count(jobName, "failed");
+        }
+    }
+
+    private String describe(Set<JobExecution> executions) {
+        return executions.stream()
+                .map(execution -> execution.getId() + "（ステータス: " + execution.getStatus()
+                        + ", 開始: " + execution.getStartTime() + ", 最終更新: " + execution.getLastUpdated() + "）")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 前回の起動時刻。スケジュールによる起動でない場合はJob実行の作成時刻とする
+     */
+    private Instant lastFireTime(String jobName) {
+        JobInstance jobInstance = jobExplorer.getLastJobInstance(jobName);
+        if (jobInstance == null) {
+            return null;
+        }
+        JobExecution jobExecution = jobExplorer.getLastJobExecution(jobInstance);
+        if (jobExecution == null) {
+            return null;
+        }
+        Long scheduledTime = jobExecution.getJobParameters().getLong(SCHEDULED_TIME_PARAMETER);
+        if (scheduledTime != null) {
+            return Instant.ofEpochMilli(scheduledTime);
+        }
+        return jobExecution.getCreateTime() != null
+                ? jobExecution.getCreateTime().atZone(ZoneId.systemDefault()).toInstant()
+                : null;
+    }
+
+    private void count(String jobName, String result) {
+        Counter.builder("batch.scheduler.fires")
+                .description("スケジュールによる起動の結果")
+                .tag("name", jobName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Job getJob(String jobName) {
+        try {
+            return jobRegistry.getJob(jobName);
+        } catch (Exception e) {
+            throw new IllegalStateException("スケジュールが設定されたJobが存在しません: " + jobName, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        schedules.values().forEach(future -> future.cancel(false));
+        schedules.clear();
+    }
+}
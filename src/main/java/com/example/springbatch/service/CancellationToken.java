@@ -0,0 +1,59 @@
+package com.example.springbatch.service;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Job実行ごとの協調的な停止要求を伝えるトークン
+ * <p>
+ * 停止要求の確認はvolatileフィールドの読み取りのみのため、件数の多いループ内から毎回呼び出してよい。
+ * トークンは {@link JobStopManager} がJob実行ごとに発行し、停止要求時にキャンセル状態にする。
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancellationRequested;
+
+    // 停止要求時刻（System.nanoTime）
+    private volatile long requestedAt;
+
+    CancellationToken() {
+    }
+
+    /**
+     * 停止が要求されているか
+     */
+    public boolean isCancellationRequested() {
+        return cancellationRequested;
+    }
+
+    /**
+     * 停止が要求されている場合は {@link CancellationException} をスローする
+     */
+    public void throwIfCancellationRequested() {
+        if (cancellationRequested) {
+            throw new CancellationException("停止要求により処理を中断しました");
+        }
+    }
+
+    /**
+     * 停止要求時刻を取得
+     *
+     * @return 停止要求時刻（System.nanoTime）、停止要求がない場合はnull
+     */
+    public Long getRequestedAt() {
+        return cancellationRequested ? requestedAt : null;
+    }
+
+    /**
+     * 停止を要求する。2回目以降の要求では要求時刻を更新しない
+     *
+     * @return 今回の呼び出しで初めて停止が要求された場合はtrue
+     */
+    synchronized boolean cancel() {
+        if (cancellationRequested) {
+            return false;
+        }
+        requestedAt = System.nanoTime();
+        cancellationRequested = true;
+        return true;
+    }
+}
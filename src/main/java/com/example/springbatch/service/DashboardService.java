@@ -0,0 +1,65 @@
+package com.example.springbatch.service;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.BatchExecution;
+import com.example.springbatch.model.DashboardSummary;
+import com.example.springbatch.model.JobExecutionSummary;
+import com.example.springbatch.repository.BatchExecutionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 管理画面の集計値を取得するサービス
+ * <p>
+ * 集計値は {@code dashboard} キャッシュに保持し、Jobの開始・終了時とデータ更新時に破棄する。
+ * キャッシュの件数上限・有効期間は {@code spring.cache.caffeine.spec} で設定し、
+ * ヒット・ミス件数はメトリクス {@code cache.gets} として公開される。
+ */
+@Service
+public class DashboardService {
+
+    public static final String CACHE_NAME = "dashboard";
+
+    @Autowired
+    private JobExecutionHistoryService jobExecutionHistoryService;
+
+    @Autowired
+    private BatchExecutionRepository batchExecutionRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    /**
+     * 直近のJob実行記録、対応するバッチ実行記録、タスク件数を取得
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "'summary'", sync = true)
+    public DashboardSummary getSummary() {
+        List<JobExecutionSummary> jobExecutions = jobExecutionHistoryService.findExecutions(
+                null, null, null, batchProperties.getDashboard().getHistoryLimit());
+
+        // 表示するJob実行に対応するバッチ実行記録のみ取得
+        List<Long> jobIds = jobExecutions.stream().map(JobExecutionSummary::getId).toList();
+        List<BatchExecution> batchExecutions = jobIds.isEmpty()
+                ? List.of()
+                : batchExecutionRepository.findByJobIdIn(jobIds);
+
+        TaskStatisticsService.Snapshot statistics = taskStatisticsService.getSnapshot();
+        return new DashboardSummary(jobExecutions, batchExecutions,
+                statistics.totalCount(), statistics.processedCount(), statistics.unprocessedCount());
+    }
+
+    /**
+     * キャッシュした集計値を破棄
+     */
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void evict() {
+        // キャッシュの破棄のみ
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.springbatch.service;
+
+import com.example.springbatch.config.BatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Job・Stepの状態遷移と進捗をServer-Sent Eventsで配信するサービス
+ * <p>
+ * 送信は専用スレッドで行い、遅いクライアントがJob実行スレッドを待たせないようにする。
+ */
+@Service
+public class JobEventPublisher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobEventPublisher.class);
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService sendExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JobEventPublisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    /**
+     * イベントの購読を開始
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(batchProperties.getEvents().getEmitterTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    /**
+     * 全ての購読者にイベントを配信
+     *
+     * @param eventName イベント名
+     * @param payload   JSONとして送信するデータ
+     */
+    public void publish(String eventName, Map<String, Object> payload) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sendExecutor.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().name(eventName).data(payload, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("イベント送信に失敗したため購読を解除します: {}", e.getMessage());
+                    emitters.remove(emitter);
+                    emitter.completeWithError(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        sendExecutor.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+}
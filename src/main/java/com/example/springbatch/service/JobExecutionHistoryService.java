@@ -0,0 +1,82 @@
+package com.example.springbatch.service;
+
+import com.example.springbatch.model.JobExecutionSummary;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Job実行履歴の検索サービス
+ * <p>
+ * JobRepositoryのメタデータテーブル（JOB_EXECUTION / JOB_INSTANCE）を1回のクエリで検索する。
+ * 実行IDの降順に並べ、前ページ最後の実行IDより小さいものを取得するキーセットページングで、
+ * 履歴件数に依存しない応答時間とする。
+ */
+@Service
+public class JobExecutionHistoryService {
+
+    private static final RowMapper<JobExecutionSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> {
+        JobExecutionSummary summary = new JobExecutionSummary();
+        summary.setId(rs.getLong("JOB_EXECUTION_ID"));
+        summary.setJobInstanceId(rs.getLong("JOB_INSTANCE_ID"));
+        summary.setJobName(rs.getString("JOB_NAME"));
+        summary.setStatus(BatchStatus.valueOf(rs.getString("STATUS")));
+        summary.setCreateTime(rs.getObject("CREATE_TIME", LocalDateTime.class));
+        summary.setStartTime(rs.getObject("START_TIME", LocalDateTime.class));
+        summary.setEndTime(rs.getObject("END_TIME", LocalDateTime.class));
+        summary.setExitCode(rs.getString("EXIT_CODE"));
+        summary.setExitDescription(rs.getString("EXIT_MESSAGE"));
+        return summary;
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.batch.jdbc.table-prefix:BATCH_}")
+    private String tablePrefix;
+
+    /**
+     * Job実行履歴を実行IDの降順で検索
+     *
+     * @param jobName           Job名（nullの場合は絞り込まない）
+     * @param status            ステータス（nullの場合は絞り込まない）
+     * @param beforeExecutionId この実行IDより古いものを取得（nullの場合は最新から取得）
+     * @param limit             最大取得件数
+     */
+    public List<JobExecutionSummary> findExecutions(String jobName,
+                                                    BatchStatus status,
+                                                    Long beforeExecutionId,
+                                                    int limit) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT E.JOB_EXECUTION_ID, E.JOB_INSTANCE_ID, I.JOB_NAME, E.STATUS, E.CREATE_TIME, ")
+                .append("E.START_TIME, E.END_TIME, E.EXIT_CODE, E.EXIT_MESSAGE ")
+                .append("FROM ").append(tablePrefix).append("JOB_EXECUTION E ")
+                .append("JOIN ").append(tablePrefix).append("JOB_INSTANCE I ON E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID ")
+                .append("WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (jobName != null) {
+            sql.append(" AND I.JOB_NAME = ?");
+            args.add(jobName);
+        }
+        if (status != null) {
+            sql.append(" AND E.STATUS = ?");
+            args.add(status.name());
+        }
+        if (beforeExecutionId != null) {
+            sql.append(" AND E.JOB_EXECUTION_ID < ?");
+            args.add(beforeExecutionId);
+        }
+        sql.append(" ORDER BY E.JOB_EXECUTION_ID DESC FETCH FIRST ? ROWS ONLY");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), SUMMARY_ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.springbatch.service;
+
+import com.example.springbatch.concurrent.PriorityAgingBlockingQueue;
+import com.example.springbatch.concurrent.SubmissionPriority;
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.LaunchTicket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job名ごとの同時実行数の上限を守ってJobを起動するコーディネーター
+ * <p>
+ * 上限の確認と実行数の加算はJob名ごとのロック内で行うため、複数の要求が同時に届いても上限を超えない。
+ * 実行数には、このコーディネーターで起動したJob実行に加えて、{@link RunningExecutionRegistry} が把握している
+ * それ以外の実行中のJob実行（開始API・再実行・スケジューラーによる起動と、他ノードのJob実行）も数える。
+ * 他ノードのJob実行はレジストリの突き合わせ間隔（{@code app.batch.running-registry.reconcile-interval}）だけ遅れて反映され、
+ * コーディネーターを経由しない起動は上限を確認しないため、上限はコーディネーターが起動を判断する時点の実行数に対して適用される。
+ * 上限に達している起動要求は待機させ、同じJobのJob実行が終了するたびに（他ノードの終了は突き合わせ間隔ごとに）次の要求を起動する。
+ * {@code app.batch.executor.priority.enabled} が有効な場合、待機中の要求は実行器のキューと同じ規則
+ * （優先度とエージング、{@link PriorityAgingBlockingQueue}）で起動順を決め、無効な場合は受付順に起動する。
+ * 優先度はJobパラメータ {@code priority}、なければ {@code app.batch.jobs.<Job名>.priority} から決める。
+ * 各Job実行には受付票のIDをJobパラメータとして付与し、終了時にどの受付票の実行かを判別する。
+ */
+@Component
+public class JobLaunchCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLaunchCoordinator.class);
+
+    /**
+     * 受付票のIDを保持するJobパラメータ名
+     */
+    public static final String TICKET_PARAMETER = "launchTicket";
+
+    // 照会用に保持する受付票の最大数。超過分は古いものから破棄する
+    private static final int MAX_RETAINED_TICKETS = 1000;
+
+    // Job名ごとの実行数と起動待ちの要求
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    // 実行数に数えている受付票のID。同じ受付票のJobインスタンスを再実行した場合の終了通知で実行数を二重に減らさない
+    private final Set<String> runningTickets = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, LaunchTicket> tickets = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LaunchTicket> eldest) {
+            return size() > MAX_RETAINED_TICKETS;
+        }
+    };
+
+    @Autowired
+    @Qualifier("asyncJobLauncher")
+    private JobLauncher asyncJobLauncher;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private RunningExecutionRegistry runningExecutionRegistry;
+
+    /**
+     * 指定したJobをパラメータの組ごとに起動
+     * <p>
+     * 上限内の要求はその場で起動し、超過分は起動待ちとして受け付ける。
+     *
+     * @param jobName       Job名
+     * @param parameterSets 1回の起動ごとのJobパラメータ
+     * @return 起動要求ごとの受付票（要求と同じ順序）
+     */
+    public List<LaunchTicket> submit(String jobName, List<JobParameters> parameterSets) {
+        Job job = getJob(jobName);
+        Lane lane = lanes.computeIfAbsent(jobName, name -> new Lane());
+        BatchProperties.JobSettings jobSettings = batchProperties.getJobSettings(jobName);
+        int maxConcurrent = jobSettings.getMaxConcurrentExecutions();
+
+        List<LaunchTicket> submitted = new ArrayList<>(parameterSets.size());
+        List<PendingLaunch> launchable = new ArrayList<>();
+        synchronized (lane) {
+            int otherRunning = countOtherRunning(jobName, null);
+            for (JobParameters parameters : parameterSets) {
+                LaunchTicket ticket = new LaunchTicket(UUID.randomUUID().toString(), jobName);
+                retain(ticket);
+                submitted.add(ticket);
+
+                Integer priority = SubmissionPriority.of(parameters, jobSettings.getPriority());
+                PendingLaunch launch = new PendingLaunch(job, parameters, ticket, priority,
+                        launchDeadline(priority), lane.sequence++);
+                if (maxConcurrent < 0 || lane.running + otherRunning < maxConcurrent) {
+                    lane.running++;
+                    launchable.add(launch);
+                } else {
+                    lane.queue.add(launch);
+                }
+            }
+        }
+
+        // 起動はDBアクセスを伴うためロックの外で行う
+        for (PendingLaunch launch : launchable) {
+            if (!launch(launch)) {
+                release(jobName, lane, null);
+            }
+        }
+        if (launchable.size() < submitted.size()) {
+            logger.info("同時実行数の上限に達したため起動待ちにしました - Job: {}, 上限: {}, 起動待ち: {}",
+                    jobName, maxConcurrent, submitted.size() - launchable.size());
+        }
+        return submitted;
+    }
+
+    /**
+     * 受付票を取得
+     *
+     * @return 受付票。存在しない場合、または保持期限を過ぎた場合はnull
+     */
+    public LaunchTicket getTicket(String ticketId) {
+        synchronized (tickets) {
+            return tickets.get(ticketId);
+        }
+    }
+
+    /**
+     * Job実行の終了を通知し、起動待ちの要求があれば起動
+     * <p>
+     * このコーディネーターで起動したJob実行の場合は実行数を減らす。それ以外（再実行を含む）の場合も、
+     * 実行数に数えていたため上限に空きができていれば起動待ちの要求を起動する。
+     */
+    public void onJobFinished(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        Lane lane = lanes.get(jobName);
+        String ticketId = jobExecution.getJobParameters().getString(TICKET_PARAMETER);
+        boolean tracked = ticketId != null && runningTickets.remove(ticketId);
+        if (lane == null) {
+            return;
+        }
+        // 終了したJob実行は、レジストリからの登録解除を待たずに実行数から除く
+        if (tracked) {
+            release(jobName, lane, jobExecution.getId());
+        } else {
+            drain(jobName, lane, jobExecution.getId());
+        }
+    }
+
+    /**
+     * 他ノードのJob実行の終了など、終了通知を受けられない実行数の減少を反映して起動待ちの要求を起動
+     */
+    @Scheduled(fixedDelayString = "#{@batchProperties.runningRegistry.reconcileInterval.toMillis()}")
+    public void drainAll() {
+        lanes.forEach((jobName, lane) -> drain(jobName, lane, null));
+    }
+
+    /**
+     * 起動要求を起動
+     *
+     * @return 起動できた場合はtrue。falseの場合、呼び出し元で実行数を戻す
+     */
+    private boolean launch(PendingLaunch launch) {
+        LaunchTicket ticket = launch.ticket();
+        // Jobが起動直後に終了しても終了通知を受け取れるよう、起動前に登録する
+        runningTickets.add(ticket.getId());
+        try {
+            JobParameters jobParameters = new JobParametersBuilder(launch.parameters())
+                    .addString(TICKET_PARAMETER, ticket.getId())
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+            JobExecution jobExecution = asyncJobLauncher.run(launch.job(), jobParameters);
+
+            // 実行器に受け付けられなかった場合、Job実行は開始されずに失敗として記録される
+            if (jobExecution.getStatus() == BatchStatus.FAILED && jobExecution.getStartTime() == null) {
+                runningTickets.remove(ticket.getId());
+                ticket.failed(jobExecution.getId(), jobExecution.getExitStatus().getExitDescription());
+                return false;
+            }
+            ticket.started(jobExecution.getId());
+            return true;
+        } catch (Exception e) {
+            logger.error("Jobの起動に失敗しました - Job: {}, 受付票: {}", ticket.getJobName(), ticket.getId(), e);
+            runningTickets.remove(ticket.getId());
+            ticket.failed(null, e.getMessage());
+            return false;
+        }
+    }
+
+    // 実行数を減らし、上限に空きがあれば起動待ちの要求を起動する
+    private void release(String jobName, Lane lane, Long finishedExecutionId) {
+        synchronized (lane) {
+            lane.running--;
+        }
+        drain(jobName, lane, finishedExecutionId);
+    }
+
+    // 上限に空きがある間、起動待ちの要求を起動順に起動する
+    private void drain(String jobName, Lane lane, Long finishedExecutionId) {
+        int maxConcurrent = batchProperties.getJobSettings(jobName).getMaxConcurrentExecutions();
+        while (true) {
+            PendingLaunch next;
+            synchronized (lane) {
+                if (lane.queue.isEmpty() || (maxConcurrent >= 0
+                        && lane.running + countOtherRunning(jobName, finishedExecutionId) >= maxConcurrent)) {
+                    return;
+                }
+                next = lane.queue.poll();
+                lane.running++;
+            }
+            // 起動はDBアクセスを伴うためロックの外で行う
+            if (!launch(next)) {
+                synchronized (lane) {
+                    lane.running--;
+                }
+            }
+        }
+    }
+
+    // このコーディネーターで起動したもの以外の、実行中のJob実行の数（終了を通知されたJob実行を除く）
+    private int countOtherRunning(String jobName, Long finishedExecutionId) {
+        return (int) runningExecutionRegistry.getRunningExecutions(jobName).stream()
+                .filter(execution -> !execution.getId().equals(finishedExecutionId))
+                .filter(execution -> {
+                    String ticketId = execution.getJobParameters().getString(TICKET_PARAMETER);
+                    return ticketId == null || !runningTickets.contains(ticketId);
+                })
+                .count();
+    }
+
+    // 起動待ちの要求の起動順を決める期限。優先度による並べ替えが無効の場合は受付時刻（受付順）となる
+    private long launchDeadline(Integer priority) {
+        BatchProperties.QueuePriority settings = batchProperties.getExecutor().getPriority();
+        if (!settings.isEnabled()) {
+            return System.nanoTime();
+        }
+        return PriorityAgingBlockingQueue.deadline(System.nanoTime(),
+                priority != null ? priority : settings.getDefaultPriority(), settings.getAgingInterval());
+    }
+
+    private void retain(LaunchTicket ticket) {
+        synchronized (tickets) {
+            tickets.put(ticket.getId(), ticket);
+        }
+    }
+
+    private Job getJob(String jobName) {
+        try {
+            return jobRegistry.getJob(jobName);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("指定されたJobが存在しません: " + jobName, e);
+        }
+    }
+
+    private static final class Lane {
+
+        private int running;
+
+        // 期限の早い順、期限が同じ場合は受付順
+        private final Queue<PendingLaunch> queue = new PriorityQueue<>(
+                Comparator.comparingLong(PendingLaunch::deadline).thenComparingLong(PendingLaunch::sequence));
+
+        private long sequence;
+    }
+
+    private record PendingLaunch(Job job,
+                                 JobParameters parameters,
+                                 LaunchTicket ticket,
+                                 Integer priority,
+                                 long deadline,
+                                 long sequence) {
+    }
+}
@@ -1,5 +1,11 @@
 package com.example.springbatch.service;
 
+import com.example.springbatch.config.TaskChunkJobConfig;
+import com.example.springbatch.config.TaskDataGeneratorJobConfig;
+import com.example.springbatch.config.TaskWorkerJobConfig;
+import com.example.springbatch.model.LaunchTicket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.explore.JobExplorer;
@@ -9,11 +15,11 @@ import org.springframework.batch.core.repository.JobExecutionAlreadyRunningExcep
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Job管理サービスクラス
@@ -21,9 +27,19 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class JobService {
 
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+
+    // タスクテーブルを読み書きするJob。テストデータの初期化はこれらのJobの実行中には行わない
+    private static final List<String> TASK_JOB_NAMES = List.of(
+            TaskChunkJobConfig.JOB_NAME, TaskWorkerJobConfig.JOB_NAME, TaskDataGeneratorJobConfig.JOB_NAME);
+
     @Autowired
     private JobLauncher jobLauncher;
 
+    @Autowired
+    @Qualifier("asyncJobLauncher")
+    private JobLauncher asyncJobLauncher;
+
     @Autowired
     private JobExplorer jobExplorer;
 
@@ -36,6 +52,15 @@ public class JobService {
     @Autowired
     private JobStopManager jobStopManager;
 
+    @Autowired
+    private RunningExecutionRegistry runningExecutionRegistry;
+
+    @Autowired
+    private JobLaunchCoordinator jobLaunchCoordinator;
+
+    // 実行中の確認と起動をまとめて行うためのロック
+    private final Object launchLock = new Object();
+
 
 
     /**
@@ -46,8 +71,15 @@ public class JobService {
     }
 
     public Long startJob(String jobName) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        return startJob(jobName, new JobParameters());
+    }
+
+    /**
+     * 指定したJobパラメータでJobを開始
+     */
+    public Long startJob(String jobName, JobParameters parameters) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
         Job job = getJob(jobName);
-        JobParameters jobParameters = new JobParametersBuilder()
+        JobParameters jobParameters = new JobParametersBuilder(parameters)
                 .addLong("time", System.currentTimeMillis())
                 .toJobParameters();
 
@@ -57,25 +89,125 @@ public class JobService {
 
     /**
      * 非同期でJobを開始
+     * <p>
+     * Job実行を作成した時点で実行IDを返し、Job本体の完了は待たない。
+     * Job本体は {@code asyncJobLauncher} の起動用の実行器で実行し、業務処理は
+     * {@code app.batch.jobs.<Job名>.priority} の優先度でJob名ごとの実行器に投入する。
+     * 実行中の確認と起動は同じロック内で行い、作成したJob実行は戻る前に実行中として登録されるため、
+     * 同時に届いた要求が重複してJobを起動することはない。
+     *
+     * @throws JobExecutionAlreadyRunningException いずれかのJobが実行中の場合
+     */
+    public Long startJobAsync() throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        synchronized (launchLock) {
+            if (runningExecutionRegistry.hasRunningExecutions()) {
+                throw new JobExecutionAlreadyRunningException("既にJobが実行中です。完了後に新しいJobを開始してください");
+            }
+            return startJobAsync("singleAsyncJob", new JobParameters());
+        }
+    }
+
+    /**
+     * 指定したJobが実行中でなければ、非同期でJobを開始
+     *
+     * @throws JobExecutionAlreadyRunningException 指定したJobが実行中の場合
      */
-    @Async
-    public CompletableFuture<Long> startJobAsync() {
-        return startJobAsync("singleAsyncJob");
+    public Long startJobAsync(String jobName) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        synchronized (launchLock) {
+            if (runningExecutionRegistry.hasRunningExecutions(jobName)) {
+                throw new JobExecutionAlreadyRunningException("指定したJobが既に実行中です: " + jobName);
+            }
+            return startJobAsync(jobName, new JobParameters());
+        }
     }
 
-    @Async
-    public CompletableFuture<Long> startJobAsync(String jobName) {
-        try {
-            Job job = getJob(jobName);
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
-            
-            JobExecution jobExecution = jobLauncher.run(job, jobParameters);
-            return CompletableFuture.completedFuture(jobExecution.getId());
-        } catch (Exception e) {
-            throw new RuntimeException("Job実行エラー", e);
+    /**
+     * 指定したJobパラメータで非同期にJobを開始
+     * <p>
+     * 実行中の確認は行わないため、必要な場合は呼び出し元で確認する。
+     *
+     * @throws TaskRejectedException 起動用の実行器が同時実行数の上限に達している場合
+     */
+    public Long startJobAsync(String jobName, JobParameters parameters) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        Job job = getJob(jobName);
+        JobParameters jobParameters = new JobParametersBuilder(parameters)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        return launchAsync(job, jobParameters).getId();
+    }
+
+    /**
+     * タスクテーブルを読み書きするJobが実行中でなければ、テストデータ生成Jobを非同期で開始
+     * <p>
+     * 生成前にタスクテーブルを削除する場合があるため、実行中の確認（他ノードでの実行を含む）と起動を同じロック内で行う。
+     *
+     * @throws JobExecutionAlreadyRunningException タスクテーブルを読み書きするJobが実行中の場合
+     */
+    public Long startTaskDataGeneration(JobParameters parameters) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        synchronized (launchLock) {
+            for (String jobName : TASK_JOB_NAMES) {
+                if (runningExecutionRegistry.hasRunningExecutions(jobName)) {
+                    throw new JobExecutionAlreadyRunningException(
+                            "タスクを処理するJobが実行中のため、テストデータを初期化できません: " + jobName);
+                }
+            }
+            return startJobAsync(TaskDataGeneratorJobConfig.JOB_NAME, parameters);
+        }
+    }
+
+    /**
+     * 失敗または停止したJob実行を、同じJobパラメータで非同期に再実行
+     * <p>
+     * 同じJobインスタンスの新しいJob実行として起動するため、完了していないStepは前回のExecutionContext
+     * （{@link com.example.springbatch.tasklet.Checkpoint} で記録した再開位置を含む）を引き継いで続きから実行される。
+     *
+     * @param executionId 再実行するJob実行のID
+     * @return 新しいJob実行
+     * @throws IllegalArgumentException Job実行が存在しない、または失敗・停止以外の状態の場合
+     * @throws TaskRejectedException    起動用の実行器が同時実行数の上限に達している場合
+     */
+    public JobExecution restartJob(Long executionId) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            throw new IllegalArgumentException("指定されたJob実行記録が見つかりません: " + executionId);
+        }
+        BatchStatus status = jobExecution.getStatus();
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            throw new IllegalArgumentException("再実行できるのは失敗または停止したJob実行のみです: " + status);
+        }
+
+        String jobName = jobExecution.getJobInstance().getJobName();
+        return launchAsync(getJob(jobName), jobExecution.getJobParameters());
+    }
+
+    // 起動用の実行器に受け付けられなかったJob実行は、開始されずに失敗として記録されて返るため例外にする
+    private JobExecution launchAsync(Job job, JobParameters jobParameters) throws JobParametersInvalidException, JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+        JobExecution jobExecution = asyncJobLauncher.run(job, jobParameters);
+        if (jobExecution.getStatus() == BatchStatus.FAILED && jobExecution.getStartTime() == null) {
+            throw new TaskRejectedException("同時に実行できるJobの上限に達しているため起動できません - Job: "
+                    + job.getName() + ", Job実行ID: " + jobExecution.getId());
         }
+        return jobExecution;
+    }
+
+    /**
+     * 指定したJobをJobパラメータの組ごとに一括で起動
+     * <p>
+     * {@code app.batch.jobs.<Job名>.max-concurrent-executions} を超える分は起動待ちとなり、
+     * 実行中のJobが終了するたびに受付順に起動される。
+     *
+     * @return 起動要求ごとの受付票（要求と同じ順序）
+     */
+    public List<LaunchTicket> startJobs(String jobName, List<JobParameters> parameterSets) {
+        return jobLaunchCoordinator.submit(jobName, parameterSets);
+    }
+
+    /**
+     * 一括起動の受付票を取得
+     */
+    public LaunchTicket getLaunchTicket(String ticketId) {
+        return jobLaunchCoordinator.getTicket(ticketId);
     }
 
     /**
@@ -107,13 +239,13 @@ public class JobService {
             // まずJobが存在するかチェック
             JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
             if (jobExecution == null) {
-                System.err.println("Job停止失敗: Job执行记录不存在 - 执行ID: " + executionId);
+                logger.warn("Job停止失敗: Job実行が存在しません - Job実行ID: {}", executionId);
                 return false;
             }
             
             // Jobが実行中かチェック
             if (!jobExecution.getStatus().isRunning()) {
-                System.out.println("Job已经停止或完成 - 执行ID: " + executionId + ", 状态: " + jobExecution.getStatus());
+                logger.info("Jobは既に停止または完了しています - Job実行ID: {}, ステータス: {}", executionId, jobExecution.getStatus());
                 return true; // 既に停止したJobは停止成功とみなす
             }
             
@@ -123,13 +255,12 @@ public class JobService {
             // Spring Batchの停止メソッドを呼び出し
             boolean stopped = jobOperator.stop(executionId);
             
-            System.out.println("Job停止请求处理完成 - 执行ID: " + executionId + ", Spring Batch停止结果: " + stopped);
+            logger.info("Job停止要求の処理完了 - Job実行ID: {}, Spring Batchの停止結果: {}", executionId, stopped);
             
             // Spring Batchがfalseを返しても、停止フラグが設定されれば停止リクエスト成功とみなす
             return true;
         } catch (Exception e) {
-            System.err.println("Job停止失敗: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Job停止失敗 - Job実行ID: {}", executionId, e);
             // Spring Batchの停止が失敗しても、停止フラグを設定
             jobStopManager.setStopFlag(executionId);
             // 停止フラグ設定後は停止リクエスト成功とみなす
@@ -166,18 +297,11 @@ public class JobService {
      * 実行中のJob実行記録を取得
      */
     public List<JobExecution> getRunningJobExecutions() {
-        List<JobExecution> allRunningExecutions = new ArrayList<>();
-
-        for (String jobName : jobExplorer.getJobNames()) {
-            Set<JobExecution> runningExecutions = jobExplorer.findRunningJobExecutions(jobName);
-            allRunningExecutions.addAll(runningExecutions);
-        }
-
-        return allRunningExecutions;
+        return runningExecutionRegistry.getRunningExecutions();
     }
 
     public List<JobExecution> getRunningJobExecutions(String jobName) {
-        return new ArrayList<>(jobExplorer.findRunningJobExecutions(jobName));
+        return runningExecutionRegistry.getRunningExecutions(jobName);
     }
 
     /**
@@ -191,11 +315,11 @@ public class JobService {
      * 実行中のJobがあるかチェック
      */
     public boolean hasRunningJobs() {
-        return !getRunningJobExecutions().isEmpty();
+        return runningExecutionRegistry.hasRunningExecutions();
     }
 
     public boolean hasRunningJobs(String jobName) {
-        return !jobExplorer.findRunningJobExecutions(jobName).isEmpty();
+        return runningExecutionRegistry.hasRunningExecutions(jobName);
     }
 
     private Job getJob(String jobName) {
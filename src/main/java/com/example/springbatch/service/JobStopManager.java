@@ -1,22 +1,53 @@
 package com.example.springbatch.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Job停止マネージャー
  * 非同期タスクの停止状態と強制スレッド中断を管理
+ * <p>
+ * Job実行ごとに {@link CancellationToken} を発行し、停止要求時にトークンをキャンセル状態にして
+ * 登録済みのスレッドを中断する。トークンはJob開始時に {@link #issueToken(Long)} で発行し、
+ * トークンとスレッド参照はJob終了時に {@link #clearStopFlag(Long)} で破棄する。
+ * 停止要求はトークンを発行済みのJob実行にのみ反映するため、終了後に届いた停止要求でトークンが残ることはない。
  */
 @Component
 public class JobStopManager {
     
-    // 各Job実行IDの停止フラグを格納
-    private final ConcurrentHashMap<Long, AtomicBoolean> stopFlags = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(JobStopManager.class);
     
-    // 各Job実行IDに対応するスレッド参照を格納、強制中断用
-    private final ConcurrentHashMap<Long, Thread> jobThreads = new ConcurrentHashMap<>();
+    // 各Job実行IDの停止トークンを格納
+    private final ConcurrentHashMap<Long, CancellationToken> tokens = new ConcurrentHashMap<>();
+    
+    // 各Job実行IDに対応するスレッド参照を格納、強制中断用（パーティション実行では複数）
+    private final ConcurrentHashMap<Long, Set<Thread>> jobThreads = new ConcurrentHashMap<>();
+    
+    /**
+     * Job実行の停止トークンを発行（発行済みの場合は発行済みのトークンを返す）
+     * @param executionId Job実行ID
+     * @return 停止トークン
+     */
+    public CancellationToken issueToken(Long executionId) {
+        return tokens.computeIfAbsent(executionId, id -> new CancellationToken());
+    }
+    
+    /**
+     * Job実行の停止トークンを取得
+     * <p>
+     * トークンが発行されていない（このノードで開始していない、または終了した）Job実行には、
+     * 停止要求が反映されない未登録のトークンを返す。
+     * @param executionId Job実行ID
+     * @return 停止トークン
+     */
+    public CancellationToken getToken(Long executionId) {
+        CancellationToken token = tokens.get(executionId);
+        return token != null ? token : new CancellationToken();
+    }
     
     /**
      * Jobスレッドを登録
@@ -24,25 +55,42 @@ public class JobStopManager {
      * @param thread Jobを実行するスレッド
      */
     public void registerJobThread(Long executionId, Thread thread) {
-        jobThreads.put(executionId, thread);
-        System.out.println("Jobスレッドを登録 - Job実行ID: " + executionId + ", スレッド: " + thread.getName());
+        jobThreads.computeIfAbsent(executionId, id -> ConcurrentHashMap.newKeySet()).add(thread);
+    }
+    
+    /**
+     * Jobスレッドの登録を解除
+     * @param executionId Job実行ID
+     * @param thread 処理を終えたスレッド
+     */
+    public void unregisterJobThread(Long executionId, Thread thread) {
+        Set<Thread> threads = jobThreads.get(executionId);
+        if (threads != null) {
+            threads.remove(thread);
+        }
     }
     
     /**
      * Job停止フラグを設定し、スレッドを強制中断
+     * <p>
+     * トークンが発行されていない（このノードで実行中でない）Job実行の場合は何もしない。
      * @param executionId Job実行ID
      */
     public void setStopFlag(Long executionId) {
-        stopFlags.put(executionId, new AtomicBoolean(true));
+        CancellationToken token = tokens.get(executionId);
+        if (token == null || !token.cancel()) {
+            return;
+        }
         
         // 対応するスレッドを強制中断
-        Thread jobThread = jobThreads.get(executionId);
-        if (jobThread != null && jobThread.isAlive()) {
-            System.out.println("Jobスレッドを強制中断 - Job実行ID: " + executionId + ", スレッド: " + jobThread.getName());
-            jobThread.interrupt();
+        for (Thread jobThread : jobThreads.getOrDefault(executionId, Set.of())) {
+            if (jobThread.isAlive()) {
+                logger.info("Jobスレッドを強制中断 - Job実行ID: {}, スレッド: {}", executionId, jobThread.getName());
+                jobThread.interrupt();
+            }
         }
         
-        System.out.println("停止フラグを設定 - Job実行ID: " + executionId);
+        logger.info("停止フラグを設定 - Job実行ID: {}", executionId);
     }
     
     /**
@@ -51,8 +99,18 @@ public class JobStopManager {
      * @return trueは停止すべき、falseは実行継続
      */
     public boolean shouldStop(Long executionId) {
-        AtomicBoolean stopFlag = stopFlags.get(executionId);
-        return stopFlag != null && stopFlag.get();
+        CancellationToken token = tokens.get(executionId);
+        return token != null && token.isCancellationRequested();
+    }
+    
+    /**
+     * 最初の停止要求時刻を取得
+     * @param executionId Job実行ID
+     * @return 停止要求時刻（System.nanoTime）、停止要求がない場合はnull
+     */
+    public Long getStopRequestedAt(Long executionId) {
+        CancellationToken token = tokens.get(executionId);
+        return token != null ? token.getRequestedAt() : null;
     }
     
     /**
@@ -60,16 +118,21 @@ public class JobStopManager {
      * @param executionId Job実行ID
      */
     public void clearStopFlag(Long executionId) {
-        stopFlags.remove(executionId);
+        tokens.remove(executionId);
         jobThreads.remove(executionId);
-        System.out.println("停止フラグとスレッド参照をクリア - Job実行ID: " + executionId);
     }
     
     /**
      * 停止フラグが設定された全Job実行IDを取得
      * @return 停止フラグのJob実行ID集合
      */
-    public java.util.Set<Long> getStoppedJobIds() {
-        return stopFlags.keySet();
+    public Set<Long> getStoppedJobIds() {
+        Set<Long> stoppedJobIds = ConcurrentHashMap.newKeySet();
+        tokens.forEach((executionId, token) -> {
+            if (token.isCancellationRequested()) {
+                stoppedJobIds.add(executionId);
+            }
+        });
+        return stoppedJobIds;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package com.example.springbatch.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 実行中のJob実行をメモリ上で管理するレジストリ
+ * <p>
+ * Jobリスナーから開始・終了の通知を受けて更新されるため、実行中Jobの確認にDBアクセスを必要としない。
+ * 他ノードで実行中のJobや、通知を受けられなかった実行との差分は、定期的にJobRepositoryと突き合わせて補正する。
+ */
+@Component
+public class RunningExecutionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningExecutionRegistry.class);
+
+    // Job実行IDごとの実行中エントリ
+    private final ConcurrentHashMap<Long, Entry> runningExecutions = new ConcurrentHashMap<>();
+
+    // Job名ごとの実行中Job実行ID
+    private final ConcurrentHashMap<String, Set<Long>> runningExecutionIdsByJobName = new ConcurrentHashMap<>();
+
+    // 終了通知を受けたJob実行IDと通知時刻。突き合わせ時に古いスナップショットで再登録しないために使用
+    private final ConcurrentHashMap<Long, Long> finishedExecutions = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    /**
+     * このノードで開始したJob実行を登録
+     * <p>
+     * 起動側（{@code asyncJobLauncher}）とJobリスナーの両方から呼ばれる。
+     * 起動直後に終了したJob実行を起動側が終了通知の後に登録した場合は、登録を取り消す。
+     */
+    public void register(JobExecution jobExecution) {
+        add(jobExecution, true);
+        if (finishedExecutions.containsKey(jobExecution.getId())) {
+            remove(jobExecution.getId());
+        }
+    }
+
+    /**
+     * 終了したJob実行を登録解除
+     */
+    public void unregister(JobExecution jobExecution) {
+        finishedExecutions.put(jobExecution.getId(), System.nanoTime());
+        remove(jobExecution.getId());
+    }
+
+    public boolean hasRunningExecutions() {
+        return !runningExecutions.isEmpty();
+    }
+
+    public boolean hasRunningExecutions(String jobName) {
+        Set<Long> executionIds = runningExecutionIdsByJobName.get(jobName);
+        return executionIds != null && !executionIds.isEmpty();
+    }
+
+    public List<JobExecution> getRunningExecutions() {
+        List<JobExecution> executions = new ArrayList<>();
+        runningExecutions.values().forEach(entry -> executions.add(entry.execution()));
+        return executions;
+    }
+
+    public List<JobExecution> getRunningExecutions(String jobName) {
+        List<JobExecution> executions = new ArrayList<>();
+        Set<Long> executionIds = runningExecutionIdsByJobName.getOrDefault(jobName, Set.of());
+        for (Long executionId : executionIds) {
+            Entry entry = runningExecutions.get(executionId);
+            if (entry != null) {
+                executions.add(entry.execution());
+            }
+        }
+        return executions;
+    }
+
+    /**
+     * 指定したJobをこのノードで実行中かどうか
+     */
+    public boolean hasLocalExecutions(String jobName) {
+        for (Long executionId : runningExecutionIdsByJobName.getOrDefault(jobName, Set.of())) {
+            Entry entry = runningExecutions.get(executionId);
+            if (entry != null && entry.local()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * このノードで実行中のJob実行IDを取得
+     */
+    public List<Long> getLocalExecutionIds() {
+        List<Long> executionIds = new ArrayList<>();
+        runningExecutions.forEach((executionId, entry) -> {
+            if (entry.local()) {
+                executionIds.add(executionId);
+            }
+        });
+        return executionIds;
+    }
+
+    /**
+     * JobRepository上の実行中Job実行と突き合わせて、レジストリの差分を補正
+     * <p>
+     * 起動直後にも実行され、他ノードで実行中のJobを取り込む。
+     */
+    @Scheduled(fixedDelayString = "#{@batchProperties.runningRegistry.reconcileInterval.toMillis()}")
+    public void reconcile() {
+        long snapshotStartedAt = System.nanoTime();
+        Map<Long, JobExecution> persistedRunning = new HashMap<>();
+        for (String jobName : jobExplorer.getJobNames()) {
+            for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+                persistedRunning.put(execution.getId(), execution);
+            }
+        }
+
+        int added = 0;
+        for (JobExecution execution : persistedRunning.values()) {
+            if (!runningExecutions.containsKey(execution.getId())
+                    && !finishedExecutions.containsKey(execution.getId())) {
+                add(execution, false);
+                added++;
+            }
+        }
+
+        int removed = 0;
+        for (Map.Entry<Long, Entry> entry : runningExecutions.entrySet()) {
+            // スナップショット取得後に登録された実行は、スナップショットに含まれていなくても削除しない
+            if (!persistedRunning.containsKey(entry.getKey())
+                    && entry.getValue().registeredAt() < snapshotStartedAt) {
+                remove(entry.getKey());
+                removed++;
+            }
+        }
+
+        finishedExecutions.values().removeIf(finishedAt -> finishedAt < snapshotStartedAt);
+
+        if (added > 0 || removed > 0) {
+            logger.info("実行中Jobレジストリを補正しました - 追加: {}, 削除: {}", added, removed);
+        }
+    }
+
+    private void add(JobExecution jobExecution, boolean local) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+        runningExecutions.put(jobExecution.getId(), new Entry(jobExecution, local, System.nanoTime()));
+        runningExecutionIdsByJobName.computeIfAbsent(jobName, name -> ConcurrentHashMap.newKeySet())
+                .add(jobExecution.getId());
+    }
+
+    private void remove(Long executionId) {
+        Entry entry = runningExecutions.remove(executionId);
+        if (entry != null) {
+            Set<Long> executionIds = runningExecutionIdsByJobName.get(entry.execution().getJobInstance().getJobName());
+            if (executionIds != null) {
+                executionIds.remove(executionId);
+            }
+        }
+    }
+
+    private record Entry(JobExecution execution, boolean local, long registeredAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.springbatch.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 他ノードからの停止要求をこのノードの実行中Jobに伝える停止シグナルのポーラー
+ * <p>
+ * 停止要求を受けたノードは {@code JobOperator#stop} でJobRepository上のステータスを {@code STOPPING} に更新する。
+ * このポーラーはこのノードで実行中の全Job実行を1回のクエリでまとめて確認し、
+ * {@code STOPPING} になったJob実行の停止トークンをキャンセルする。
+ * Jobごとに個別にDBを確認しないため、実行中のJob数が増えても確認のクエリは1回で済む。
+ */
+@Component
+public class StopSignalPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(StopSignalPoller.class);
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private RunningExecutionRegistry runningExecutionRegistry;
+
+    @Autowired
+    private JobStopManager jobStopManager;
+
+    @Value("${spring.batch.jdbc.table-prefix:BATCH_}")
+    private String tablePrefix;
+
+    /**
+     * このノードで実行中のJob実行について、JobRepository上の停止要求を確認
+     */
+    @Scheduled(fixedDelayString = "#{@batchProperties.stopSignal.pollInterval.toMillis()}")
+    public void poll() {
+        List<Long> executionIds = runningExecutionRegistry.getLocalExecutionIds();
+        // 停止要求を受け取り済みのJob実行は確認対象から外す
+        Set<Long> stoppedJobIds = jobStopManager.getStoppedJobIds();
+        executionIds.removeIf(stoppedJobIds::contains);
+        if (executionIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> stoppingIds = namedParameterJdbcTemplate.queryForList(
+                "SELECT JOB_EXECUTION_ID FROM " + tablePrefix + "JOB_EXECUTION "
+                        + "WHERE STATUS = :status AND JOB_EXECUTION_ID IN (:executionIds)",
+                Map.of("status", BatchStatus.STOPPING.name(), "executionIds", executionIds),
+                Long.class);
+
+        for (Long executionId : stoppingIds) {
+            logger.info("JobRepositoryの停止要求を検出しました - Job実行ID: {}", executionId);
+            jobStopManager.setStopFlag(executionId);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.springbatch.service;
+
+import com.example.springbatch.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 未処理タスクを1回のUPDATEで処理済みにするサービス
+ * <p>
+ * 更新と同じトランザクション内で処理済み件数の増分を統計に記録するため、
+ * 一括完了は {@link TaskRepository} を直接呼び出さずにこのサービスを経由する。
+ */
+@Service
+public class TaskCompletionService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    /**
+     * 指定IDの未処理タスクを処理済みにする
+     *
+     * @return 処理済みにした件数
+     */
+    @Transactional
+    public int completeByIds(Collection<Long> ids, String status, LocalDateTime processedAt) {
+        int updated = taskRepository.completeByIds(ids, status, processedAt);
+        taskStatisticsService.record(0, updated);
+        return updated;
+    }
+
+    /**
+     * 指定ID範囲（両端を含む）の未処理タスクを処理済みにする
+     *
+     * @return 処理済みにした件数
+     */
+    @Transactional
+    public int completeByIdRange(Long fromId, Long toId, String status, LocalDateTime processedAt) {
+        int updated = taskRepository.completeByIdRange(fromId, toId, status, processedAt);
+        taskStatisticsService.record(0, updated);
+        return updated;
+    }
+}
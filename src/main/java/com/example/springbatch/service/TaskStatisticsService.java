@@ -0,0 +1,148 @@
+package com.example.springbatch.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * タスク件数の統計を管理するサービス
+ * <p>
+ * 書き込み処理が呼び出し元のトランザクション内で件数の増分を記録するため、
+ * チャンクのロールバック時は統計も一緒にロールバックされる。
+ * 件数の取得はストライプ数分の行を合計するだけで、タスクテーブルの件数に依存しない。
+ * タスクテーブルを統計の記録を伴わない方法で更新した場合は {@link #rebuild()} で再集計する。
+ * 起動時は統計が未作成の場合のみ集計し、作成済みの統計（他ノードが記録中の増分を含む）は作り直さない。
+ */
+@Service
+public class TaskStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatisticsService.class);
+
+    /**
+     * 統計を分散して保持する行数
+     */
+    static final int STRIPES = 16;
+
+    private static final String INCREMENT_SQL = "UPDATE task_statistics "
+            + "SET total_count = total_count + ?, processed_count = processed_count + ? WHERE stripe = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 件数の増分を記録
+     *
+     * @param insertedCount  追加したタスク数
+     * @param processedDelta 処理済みタスク数の増減
+     */
+    @Transactional
+    public void record(long insertedCount, long processedDelta) {
+        if (insertedCount == 0 && processedDelta == 0) {
+            return;
+        }
+        int stripe = Math.floorMod(Thread.currentThread().threadId(), STRIPES);
+        jdbcTemplate.update(INCREMENT_SQL, insertedCount, processedDelta, stripe);
+    }
+
+    /**
+     * 現在の件数を取得
+     */
+    @Transactional(readOnly = true)
+    public Snapshot getSnapshot() {
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT COALESCE(SUM(total_count), 0) AS total_count, "
+                + "COALESCE(SUM(processed_count), 0) AS processed_count FROM task_statistics");
+        return new Snapshot(((Number) row.get("total_count")).longValue(),
+                ((Number) row.get("processed_count")).longValue());
+    }
+
+    /**
+     * 全ての件数を0にする（タスクテーブルを全件削除した場合に使用）
+     */
+    @Transactional
+    public void reset() {
+        jdbcTemplate.update("UPDATE task_statistics SET total_count = 0, processed_count = 0");
+    }
+
+    /**
+     * 起動時に、統計が未作成の場合のみタスクテーブルを集計して作成する
+     * <p>
+     * 複数ノードが同時に起動した場合は、ストライプの行を最初に作成したノードのみが集計する。
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void initialize() {
+        Integer stripes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_statistics", Integer.class);
+        if (stripes != null && stripes > 0) {
+            logger.info("タスク統計は作成済みのため、起動時の集計を省略します");
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                insertStripes(IntStream.range(0, STRIPES).boxed().toList());
+                recount();
+            });
+        } catch (DuplicateKeyException e) {
+            logger.info("他のノードがタスク統計を作成したため、起動時の集計を省略します");
+        }
+    }
+
+    /**
+     * タスクテーブルを集計して統計を作り直す
+     * <p>
+     * 集計はタスクテーブルの全件走査となるため、管理操作からの明示的な呼び出しにのみ使用する。
+     */
+    @Transactional
+    public void rebuild() {
+        recount();
+    }
+
+    // 全ストライプをロックしてから集計するため、集計中に他の書き込み（他ノードを含む）が記録する増分は
+    // ロックの解放後に集計結果へ加算され、失われない
+    private void recount() {
+        List<Integer> lockedStripes = jdbcTemplate.queryForList(
+                "SELECT stripe FROM task_statistics FOR UPDATE", Integer.class);
+        insertStripes(IntStream.range(0, STRIPES).filter(stripe -> !lockedStripes.contains(stripe)).boxed().toList());
+
+        Map<String, Object> counts = jdbcTemplate.queryForMap("SELECT COUNT(*) AS total_count, "
+                + "COALESCE(SUM(CASE WHEN processed = TRUE THEN 1 ELSE 0 END), 0) AS processed_count FROM task");
+        long totalCount = ((Number) counts.get("total_count")).longValue();
+        long processedCount = ((Number) counts.get("processed_count")).longValue();
+
+        jdbcTemplate.update("UPDATE task_statistics SET total_count = 0, processed_count = 0");
+        jdbcTemplate.update(INCREMENT_SQL, totalCount, processedCount, 0);
+
+        logger.info("タスク統計を再集計しました - 総数: {}, 処理済み: {}", totalCount, processedCount);
+    }
+
+    private void insertStripes(List<Integer> stripes) {
+        if (stripes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO task_statistics (stripe, total_count, processed_count) VALUES (?, 0, 0)",
+                stripes.stream().map(stripe -> new Object[]{stripe}).toList());
+    }
+
+    /**
+     * タスク件数のスナップショット
+     */
+    public record Snapshot(long totalCount, long processedCount) {
+
+        public long unprocessedCount() {
+            return totalCount - processedCount;
+        }
+    }
+}
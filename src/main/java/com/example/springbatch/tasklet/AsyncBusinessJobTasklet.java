@@ -1,66 +1,224 @@
 package com.example.springbatch.tasklet;
 
+import com.example.springbatch.concurrent.SubmissionPriority;
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.config.JobExecutorRegistry;
+import com.example.springbatch.metrics.BatchMetrics;
+import com.example.springbatch.service.CancellationToken;
+import com.example.springbatch.service.JobStopManager;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * 非同期バッチ処理Taskletの標準テンプレート。
  * <p>
- * サブクラスは {@link #doExecute(Long)} を実装し、ビジネスロジックのみを記述する。
+ * サブクラスは {@link #doExecute(Long)} / {@link #doExecute(Long, CancellationToken)} /
+ * {@link #doExecute(Long, CancellationToken, Checkpoint)} のいずれかを実装し、
+ * ビジネスロジックのみを記述する。いずれも実装しないサブクラスはBeanの初期化時にエラーとなる。件数の多いループでは {@link CancellationToken} で停止要求を確認し、
+ * 停止要求時は {@link CancellationToken#throwIfCancellationRequested()} で処理を中断する。
+ * 長時間の処理は {@link Checkpoint} に再開位置を記録しておくと、失敗・停止したJobを再実行した際に続きから処理できる。
+ * 業務処理を実行するスレッドは {@link JobStopManager} に自動で登録され、停止要求時に中断される。
+ * <p>
+ * 業務処理はJob名で選択した実行器（{@link JobExecutorRegistry}）上で実行し、Stepのスレッドは完了まで待機する。
+ * Job専用の実行器（バルクヘッド）や優先度付きのキューは業務処理の同時実行数と実行順に適用される。
+ * 業務処理が失敗した場合はStepも失敗し、停止要求を受けた場合は業務処理を中断してStepを停止する。
+ * Stepのスレッド（{@code asyncJobLauncher} で起動した場合は起動用の実行器のスレッド）は待機中も解放されないため、
+ * 業務処理の実行器上で実行されるStep（パーティションのワーカーStepなど）では使用しないこと。
  */
-public abstract class AsyncBusinessJobTasklet implements Tasklet {
+public abstract class AsyncBusinessJobTasklet implements Tasklet, InitializingBean {
 
     private static final Logger logger = LoggerFactory.getLogger(AsyncBusinessJobTasklet.class);
-    
+
+    private static final List<List<Class<?>>> DO_EXECUTE_SIGNATURES = List.of(
+            List.of(Long.class),
+            List.of(Long.class, CancellationToken.class),
+            List.of(Long.class, CancellationToken.class, Checkpoint.class));
+
+    @Autowired
+    private JobExecutorRegistry jobExecutorRegistry;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private JobStopManager jobStopManager;
+
+    @Autowired
+    private BatchMetrics batchMetrics;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (Class<?> type = getClass(); type != AsyncBusinessJobTasklet.class; type = type.getSuperclass()) {
+            boolean implemented = Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> method.getName().equals("doExecute"))
+                    .anyMatch(method -> DO_EXECUTE_SIGNATURES.contains(List.of(method.getParameterTypes())));
+            if (implemented) {
+                return;
+            }
+        }
+        throw new IllegalStateException("doExecute(Long) / doExecute(Long, CancellationToken) / "
+                + "doExecute(Long, CancellationToken, Checkpoint) のいずれかを実装してください: " + getClass().getName());
+    }
+
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
         // Job実行IDを取得
-        Long jobExecutionId = chunkContext.getStepContext().getStepExecution().getJobExecutionId();
-        
-        logger.info("非同期Job実行開始 - Job実行ID: {}", jobExecutionId);
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
 
-        // 非同期で業務処理を実行
-        executeBusinessLogicAsync(jobExecutionId);
+        logger.info("業務処理実行開始 - Job実行ID: {}", jobExecutionId);
+        AsyncTaskExecutor taskExecutor = jobExecutorRegistry.getExecutor(jobName);
+        // Job実行と同じ優先度で業務処理を投入する
+        Integer priority = SubmissionPriority.of(stepExecution.getJobParameters(),
+                batchProperties.getJobSettings(jobName).getPriority());
+        Future<?> future;
+        try (SubmissionPriority.Scope ignored = SubmissionPriority.use(priority)) {
+            future = taskExecutor.submit(() -> {
+                executeBusinessLogic(stepExecution);
+                return null;
+            });
+        }
 
-        // 非同期処理の開始を確認（実際の完了は待たない）
-        logger.info("非同期業務Job実行開始完了 - Job実行ID: {}", jobExecutionId);
+        try {
+            future.get();
+            logger.info("業務処理実行完了 - Job実行ID: {}", jobExecutionId);
+            return RepeatStatus.FINISHED;
+        } catch (ExecutionException e) {
+            // 停止要求による中断（CancellationException / InterruptedException）はStepの停止として扱う
+            if (isStopRequested(stepExecution, jobExecutionId)) {
+                logger.info("停止要求により業務処理が中断されました - Job実行ID: {}", jobExecutionId);
+                // チャンクの終了後にStepがJobInterruptedExceptionで停止する
+                stepExecution.setTerminateOnly();
+                return RepeatStatus.FINISHED;
+            }
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
 
-        return RepeatStatus.FINISHED;
+    private boolean isStopRequested(StepExecution stepExecution, Long jobExecutionId) {
+        return stepExecution.isTerminateOnly() || jobStopManager.shouldStop(jobExecutionId);
     }
 
     /**
-     * 非同期で業務ロジックを実行
+     * 業務ロジックを実行し、結果に応じたフックを呼び出す。
+     * 業務ロジックの所要時間はTaskletクラスごとに {@link BatchMetrics} へ記録する。
+     * 業務ロジックの終了時は、成否にかかわらずチェックポイントの未保存の値を保存する。
      */
-    @Async("taskExecutor")
-    public CompletableFuture<Void> executeBusinessLogicAsync(Long jobExecutionId) {
+    private void executeBusinessLogic(StepExecution stepExecution) throws Exception {
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+        Checkpoint checkpoint = new Checkpoint(stepExecution, jobRepository, transactionManager,
+                batchProperties.getTasklet().getCheckpointInterval());
+        if (checkpoint.isResumed()) {
+            logger.info("前回の実行のチェックポイントから再開します - Job実行ID: {}", jobExecutionId);
+        }
+        Thread currentThread = Thread.currentThread();
+        jobStopManager.registerJobThread(jobExecutionId, currentThread);
         try {
-            logger.info("非同期業務処理開始 - Job実行ID: {}, スレッド: {}", jobExecutionId, Thread.currentThread().getName());
+            logger.info("非同期業務処理開始 - Job実行ID: {}, スレッド: {}", jobExecutionId, currentThread.getName());
 
-            doExecute(jobExecutionId);
+            Timer.Sample sample = batchMetrics.startTaskletExecution();
+            try {
+                doExecute(jobExecutionId, jobStopManager.getToken(jobExecutionId), checkpoint);
+            } catch (CancellationException e) {
+                batchMetrics.recordTaskletExecution(sample, getClass(), "cancelled");
+                throw e;
+            } catch (Exception e) {
+                batchMetrics.recordTaskletExecution(sample, getClass(), "failure");
+                throw e;
+            }
+            batchMetrics.recordTaskletExecution(sample, getClass(), "success");
 
             logger.info("非同期業務処理完了 - Job実行ID: {}", jobExecutionId);
             onExecutionSuccess(jobExecutionId);
         } catch (Exception e) {
             logger.error("非同期業務処理でエラーが発生しました - Job実行ID: {}", jobExecutionId, e);
             onExecutionError(jobExecutionId, e);
+            throw e;
+        } finally {
+            saveCheckpoint(checkpoint, jobExecutionId);
+            jobStopManager.unregisterJobThread(jobExecutionId, currentThread);
+            // 停止要求による中断フラグを後続のタスクに持ち越さない
+            Thread.interrupted();
         }
+    }
 
-        return CompletableFuture.completedFuture(null);
+    // 停止要求による中断フラグが残っているとDBアクセスが中断されるため、フラグを外してから保存する
+    private void saveCheckpoint(Checkpoint checkpoint, Long jobExecutionId) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            checkpoint.save();
+        } catch (Exception e) {
+            logger.warn("チェックポイントの保存に失敗しました - Job実行ID: {}", jobExecutionId, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * サブクラスで実装する業務ロジック。途中から再開できるようにする場合はこちらをオーバーライドし、
+     * 処理を終えた位置を {@link Checkpoint} に記録する。再実行時は前回記録した位置を同じキーで取得できる。
+     *
+     * @param jobExecutionId ジョブ実行ID
+     * @param token          停止要求を確認するためのトークン
+     * @param checkpoint     再開位置を記録するチェックポイント
+     */
+    protected void doExecute(Long jobExecutionId, CancellationToken token, Checkpoint checkpoint) throws Exception {
+        doExecute(jobExecutionId, token);
+    }
+
+    /**
+     * サブクラスで実装する業務ロジック。件数の多いループで停止要求を確認する場合はこちらをオーバーライドする。
+     *
+     * @param jobExecutionId ジョブ実行ID
+     * @param token          停止要求を確認するためのトークン
+     */
+    protected void doExecute(Long jobExecutionId, CancellationToken token) throws Exception {
+        doExecute(jobExecutionId);
     }
 
     /**
      * サブクラスで実装する業務ロジック。
+     * <p>
+     * いずれかの {@code doExecute} を実装していることは {@link #afterPropertiesSet()} で確認するため、
+     * このメソッドが呼ばれるのはサブクラスが他の {@code doExecute} から明示的に呼び出した場合のみ。
      *
      * @param jobExecutionId ジョブ実行ID
      */
-    protected abstract void doExecute(Long jobExecutionId) throws Exception;
+    protected void doExecute(Long jobExecutionId) throws Exception {
+        throw new UnsupportedOperationException("doExecute(Long) が実装されていません: " + getClass().getName());
+    }
 
     /**
      * 正常終了時のフック。必要な場合にサブクラスでオーバーライドする。
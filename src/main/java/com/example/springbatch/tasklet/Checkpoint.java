@@ -0,0 +1,124 @@
+package com.example.springbatch.tasklet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 非同期業務処理の再開位置（カーソル）を保存するチェックポイント
+ * <p>
+ * {@link #put} で記録した値はStepのExecutionContextに保存され、失敗・停止した同じJobインスタンスを再実行すると
+ * 同じキーで取得できる。例えば処理済みの最後のタスクIDを記録しておけば、再実行時はその続きから処理できる。
+ * <pre>{@code
+ * Long lastId = checkpoint.getLong("lastTaskId");
+ * for (Task task : tasksAfter(lastId != null ? lastId : 0L)) {
+ *     process(task);
+ *     checkpoint.put("lastTaskId", task.getId());
+ * }
+ * }</pre>
+ * 値は処理を終えた位置を記録すること。記録した値は直ちにExecutionContextに反映し、JobRepositoryへの保存は
+ * {@code app.batch.tasklet.checkpoint-interval} に1回までに間引く。業務処理の失敗・中断時と完了時には最後に記録した値を保存する。
+ * 保存は業務処理のトランザクションとは独立したトランザクションで行うため、Stepの終了を待たずに記録される。
+ * 値はExecutionContextに保存できる（シリアライズ可能な）型とすること。
+ */
+public class Checkpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(Checkpoint.class);
+
+    // 他の用途のExecutionContextのキーと区別するための接頭辞
+    static final String KEY_PREFIX = "checkpoint.";
+
+    private final StepExecution stepExecution;
+
+    private final JobRepository jobRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long intervalNanos;
+
+    private final boolean resumed;
+
+    // 前回の保存以降に値を記録したか
+    private boolean dirty;
+
+    private long lastSavedAt = System.nanoTime();
+
+    Checkpoint(StepExecution stepExecution,
+               JobRepository jobRepository,
+               PlatformTransactionManager transactionManager,
+               Duration interval) {
+        this.stepExecution = stepExecution;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.intervalNanos = interval.toNanos();
+        this.resumed = stepExecution.getExecutionContext().entrySet().stream()
+                .anyMatch(entry -> entry.getKey().startsWith(KEY_PREFIX));
+    }
+
+    /**
+     * 前回の実行で保存された値を引き継いでいるか（再実行か）
+     */
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * 記録された値を取得
+     *
+     * @return 値。記録されていない場合はnull
+     */
+    public Object get(String key) {
+        return stepExecution.getExecutionContext().get(KEY_PREFIX + key);
+    }
+
+    /**
+     * 記録された数値を取得
+     *
+     * @return 値。記録されていない場合はnull
+     */
+    public Long getLong(String key) {
+        Object value = get(key);
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * 記録された文字列を取得
+     *
+     * @return 値。記録されていない場合はnull
+     */
+    public String getString(String key) {
+        Object value = get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 値を記録し、前回の保存から保存間隔が経過していれば保存
+     */
+    public synchronized void put(String key, Object value) {
+        stepExecution.getExecutionContext().put(KEY_PREFIX + key, value);
+        dirty = true;
+        if (System.nanoTime() - lastSavedAt >= intervalNanos) {
+            save();
+        }
+    }
+
+    /**
+     * 前回の保存以降に記録した値を直ちに保存
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jobRepository.updateExecutionContext(stepExecution));
+        logger.debug("チェックポイントを保存しました - Step実行ID: {}", stepExecution.getId());
+        dirty = false;
+        lastSavedAt = System.nanoTime();
+    }
+}
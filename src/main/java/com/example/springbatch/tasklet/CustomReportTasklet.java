@@ -1,5 +1,6 @@
 package com.example.springbatch.tasklet;
 
+import com.example.springbatch.service.CancellationToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -8,7 +9,8 @@ import org.springframework.stereotype.Component;
  * サンプルのカスタムJob実装。
  * <p>
  * {@link AsyncBusinessJobTasklet} を継承し、非同期で動作する業務ロジックを記述する。
- * この例ではレポート生成処理を模した単純なループを実行する。
+ * この例ではレポート生成処理を模した単純なループを実行し、生成を終えたセクションをチェックポイントに記録する。
+ * 停止・失敗したJobを再実行した場合は、生成済みのセクションを飛ばして続きから生成する。
  */
 @Component("customReportTasklet")
 public class CustomReportTasklet extends AsyncBusinessJobTasklet {
@@ -16,13 +18,17 @@ public class CustomReportTasklet extends AsyncBusinessJobTasklet {
     private static final Logger logger = LoggerFactory.getLogger(CustomReportTasklet.class);
 
     @Override
-    protected void doExecute(Long jobExecutionId) throws Exception {
-        logger.info("カスタムレポート生成開始 - Job実行ID: {}", jobExecutionId);
+    protected void doExecute(Long jobExecutionId, CancellationToken token, Checkpoint checkpoint) throws Exception {
+        Long lastSection = checkpoint.getLong("lastSection");
+        int firstSection = lastSection != null ? lastSection.intValue() + 1 : 1;
+        logger.info("カスタムレポート生成開始 - Job実行ID: {}, 開始セクション: {}", jobExecutionId, firstSection);
 
         int totalSections = 3;
-        for (int section = 1; section <= totalSections; section++) {
+        for (int section = firstSection; section <= totalSections; section++) {
+            token.throwIfCancellationRequested();
             logger.info("レポートセクション処理中 {}/{}", section, totalSections);
             Thread.sleep(1000); // 実際の処理に置き換える
+            checkpoint.put("lastSection", section);
         }
 
         logger.info("カスタムレポート生成完了 - Job実行ID: {}", jobExecutionId);
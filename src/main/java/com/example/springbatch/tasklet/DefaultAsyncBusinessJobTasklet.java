@@ -7,7 +7,8 @@ import org.springframework.stereotype.Component;
 /**
  * サンプル実装。ビジネスロジックが必要な場合は、このクラスを継承もしくは
  * {@link AsyncBusinessJobTasklet} を継承した独自のTaskletを作成し、
- * {@link #doExecute(Long)} を実装する。
+ * {@link #doExecute(Long)} を実装する。停止要求に応じて中断する場合は
+ * {@link #doExecute(Long, com.example.springbatch.service.CancellationToken)} を実装する。
  */
 @Component("asyncBusinessJobTasklet")
 public class DefaultAsyncBusinessJobTasklet extends AsyncBusinessJobTasklet {
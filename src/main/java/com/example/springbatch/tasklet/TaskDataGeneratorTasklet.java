@@ -0,0 +1,227 @@
+package com.example.springbatch.tasklet;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.service.TaskStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 性能検証用のTaskデータを大量に生成するTasklet。
+ * <p>
+ * JDBCのバッチ挿入で {@code app.batch.generator.batch-size} 件ずつ挿入し、1回の実行ごとにコミットする。
+ * IDはJPAと同じ {@code task_seq} から {@link Task#ID_ALLOCATION_SIZE} 件単位のブロックでまとめて確保する。
+ * 生成件数はStepの {@link ExecutionContext} に保存するため、失敗したJobを再実行すると続きから生成する。
+ * 件数・分布はJobパラメータで指定する。
+ * <ul>
+ *     <li>{@code rows}: 生成件数（デフォルト20）</li>
+ *     <li>{@code priorityWeights}: 優先度1から順の重み（カンマ区切り、デフォルト {@code 1,1,1}）</li>
+ *     <li>{@code processedRatio}: 処理済みとして生成する割合（デフォルト0）</li>
+ *     <li>{@code failedRatio}: 未処理のうち失敗ステータスで生成する割合（デフォルト0）</li>
+ *     <li>{@code seed}: 乱数シード。同じシードでは同じデータを生成する</li>
+ *     <li>{@code truncate}: {@code true} の場合、生成前に既存データを削除する</li>
+ * </ul>
+ */
+@Component
+public class TaskDataGeneratorTasklet implements Tasklet {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDataGeneratorTasklet.class);
+
+    public static final String ROWS = "rows";
+
+    public static final String PRIORITY_WEIGHTS = "priorityWeights";
+
+    public static final String PROCESSED_RATIO = "processedRatio";
+
+    public static final String FAILED_RATIO = "failedRatio";
+
+    public static final String SEED = "seed";
+
+    public static final String TRUNCATE = "truncate";
+
+    /**
+     * 生成済み件数を保存するExecutionContextのキー
+     */
+    public static final String GENERATED_ROWS_KEY = "taskDataGenerator.generatedRows";
+
+    /**
+     * 生成速度（件/秒）を保存するExecutionContextのキー
+     */
+    public static final String ROWS_PER_SECOND_KEY = "taskDataGenerator.rowsPerSecond";
+
+    private static final String TRUNCATED_KEY = "taskDataGenerator.truncated";
+
+    // 生成速度の計算の起点とするStep実行のIDと、その実行の開始時点の生成済み件数
+    private static final String RATE_BASE_STEP_EXECUTION_KEY = "taskDataGenerator.rateBaseStepExecutionId";
+
+    private static final String RATE_BASE_ROWS_KEY = "taskDataGenerator.rateBaseRows";
+
+    private static final String PENDING_STATUS = "PENDING";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task (id, task_name, description, priority, status, processed, processed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // シーケンス値は割り当てブロックの先頭ID（hibernate.id.optimizer.pooled.preferred: pooled-lo）
+    private static final String NEXT_ID_BLOCKS_SQL = "SELECT NEXT VALUE FOR task_seq FROM SYSTEM_RANGE(1, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        GenerationSettings settings = GenerationSettings.from(stepExecution.getJobParameters());
+
+        if (settings.truncate() && !executionContext.containsKey(TRUNCATED_KEY)) {
+            jdbcTemplate.execute("TRUNCATE TABLE task");
+            taskStatisticsService.reset();
+            executionContext.put(TRUNCATED_KEY, true);
+            logger.info("既存のTaskデータを削除しました");
+        }
+
+        long generated = executionContext.getLong(GENERATED_ROWS_KEY, 0L);
+        // 再実行時は前回の実行で生成した件数を引き継ぐため、この実行の開始時点の件数を記録しておく
+        if (executionContext.getLong(RATE_BASE_STEP_EXECUTION_KEY, -1L) != stepExecution.getId()) {
+            executionContext.putLong(RATE_BASE_STEP_EXECUTION_KEY, stepExecution.getId());
+            executionContext.putLong(RATE_BASE_ROWS_KEY, generated);
+        }
+        int batchRows = (int) Math.min(batchProperties.getGenerator().getBatchSize(), settings.rows() - generated);
+        if (batchRows > 0) {
+            insertBatch(settings, generated, batchRows);
+            contribution.incrementWriteCount(batchRows);
+            logProgress(settings, generated, generated + batchRows);
+            generated += batchRows;
+            executionContext.putLong(GENERATED_ROWS_KEY, generated);
+        }
+
+        if (generated < settings.rows()) {
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        // 速度はこの実行で生成した件数から計算する
+        long generatedInExecution = generated - executionContext.getLong(RATE_BASE_ROWS_KEY, 0L);
+        Duration elapsed = Duration.between(stepExecution.getStartTime(), LocalDateTime.now());
+        long rowsPerSecond = elapsed.toMillis() > 0
+                ? generatedInExecution * 1000 / elapsed.toMillis()
+                : generatedInExecution;
+        executionContext.putLong(ROWS_PER_SECOND_KEY, rowsPerSecond);
+        logger.info("Taskデータ生成完了 - 件数: {}（この実行: {}）, 所要時間: {}ms, 速度: {}件/秒",
+                generated, generatedInExecution, elapsed.toMillis(), rowsPerSecond);
+        return RepeatStatus.FINISHED;
+    }
+
+    private void insertBatch(GenerationSettings settings, long offset, int batchRows) {
+        // 再実行時も同じデータを生成するよう、開始位置からバッチごとの乱数を導出する
+        Random random = new Random(settings.seed() * 31 + offset);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> idBlocks = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class,
+                (batchRows + Task.ID_ALLOCATION_SIZE - 1) / Task.ID_ALLOCATION_SIZE);
+        long[] processedCount = new long[1];
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long number = offset + i + 1;
+                boolean processed = random.nextDouble() < settings.processedRatio();
+                String status = processed
+                        ? batchProperties.getStatus().getCompleted()
+                        : random.nextDouble() < settings.failedRatio()
+                                ? batchProperties.getStatus().getFailed()
+                                : PENDING_STATUS;
+                if (processed) {
+                    processedCount[0]++;
+                }
+
+                ps.setLong(1, idBlocks.get(i / Task.ID_ALLOCATION_SIZE) + i % Task.ID_ALLOCATION_SIZE);
+                ps.setString(2, "Task-" + number);
+                ps.setString(3, "タスク" + number + "の説明");
+                ps.setInt(4, settings.nextPriority(random));
+                ps.setString(5, status);
+                ps.setBoolean(6, processed);
+                ps.setTimestamp(7, processed ? Timestamp.valueOf(now.minusSeconds(random.nextInt(86_400))) : null);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batchRows;
+            }
+        });
+        taskStatisticsService.record(batchRows, processedCount[0]);
+    }
+
+    private void logProgress(GenerationSettings settings, long before, long after) {
+        long logInterval = batchProperties.getGenerator().getLogInterval();
+        if (logInterval > 0 && after / logInterval > before / logInterval) {
+            logger.info("Taskデータ生成中 - {}/{}件", after, settings.rows());
+        }
+    }
+
+    /**
+     * Jobパラメータから読み取った生成条件
+     *
+     * @param cumulativeWeights 優先度1から順の累積重み
+     */
+    private record GenerationSettings(long rows,
+                                      int[] cumulativeWeights,
+                                      double processedRatio,
+                                      double failedRatio,
+                                      long seed,
+                                      boolean truncate) {
+
+        static GenerationSettings from(JobParameters parameters) {
+            int[] weights = Arrays.stream(parameters.getString(PRIORITY_WEIGHTS, "1,1,1").split(","))
+                    .map(String::trim)
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+            Arrays.parallelPrefix(weights, Integer::sum);
+            if (weights.length == 0 || weights[weights.length - 1] <= 0) {
+                throw new IllegalArgumentException("優先度の重みが不正です: " + parameters.getString(PRIORITY_WEIGHTS));
+            }
+
+            return new GenerationSettings(
+                    parameters.getLong(ROWS, 20L),
+                    weights,
+                    parameters.getDouble(PROCESSED_RATIO, 0.0),
+                    parameters.getDouble(FAILED_RATIO, 0.0),
+                    parameters.getLong(SEED, 0L),
+                    Boolean.parseBoolean(parameters.getString(TRUNCATE, "false")));
+        }
+
+        int nextPriority(Random random) {
+            int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return i + 1;
+                }
+            }
+            return cumulativeWeights.length;
+        }
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.springbatch.tasklet;
 
+import com.example.springbatch.service.CancellationToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 /**
  * 簡単なデモ用Tasklet。非同期で短い処理を行いログを出力する。
+ * 各処理ステップの前に停止要求を確認し、終えた処理ステップをチェックポイントに記録する。
+ * 停止・失敗したJobを再実行した場合は、前回終えた処理ステップの次から再開する。
  */
 @Component
 public class TestJobTasklet extends AsyncBusinessJobTasklet {
 
     private static final Logger logger = LoggerFactory.getLogger(TestJobTasklet.class);
 
+    /**
+     * 終えた処理ステップ数を記録するチェックポイントのキー
+     */
+    public static final String COMPLETED_STEPS_KEY = "completedSteps";
+
     @Override
-    protected void doExecute(Long jobExecutionId) throws Exception {
-        logger.info("testJob 処理開始 - JobExecutionId: {}", jobExecutionId);
+    protected void doExecute(Long jobExecutionId, CancellationToken token, Checkpoint checkpoint) throws Exception {
+        Long completedSteps = checkpoint.getLong(COMPLETED_STEPS_KEY);
+        int firstStep = completedSteps != null ? completedSteps.intValue() + 1 : 1;
+        logger.info("testJob 処理開始 - JobExecutionId: {}, 開始ステップ: {}", jobExecutionId, firstStep);
 
-        for (int i = 1; i <= 5; i++) {
+        for (int i = firstStep; i <= 5; i++) {
+            token.throwIfCancellationRequested();
             logger.info("testJob 処理ステップ {}/5", i);
             Thread.sleep(500);
+            checkpoint.put(COMPLETED_STEPS_KEY, i);
         }
 
         logger.info("testJob 処理完了 - JobExecutionId: {}", jobExecutionId);
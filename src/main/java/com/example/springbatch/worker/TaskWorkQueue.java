@@ -0,0 +1,205 @@
+package com.example.springbatch.worker;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.model.Task;
+import com.example.springbatch.service.TaskStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 複数ノードで共有するタスクテーブルを作業キューとして扱うコンポーネント
+ * <p>
+ * 未処理かつリースのないタスク（リース期限切れを含む）を候補として読み込み、
+ * 候補から無作為に選んだタスクを「まだ取得されていない」ことを条件とするUPDATEで取得する。
+ * 候補は優先度順（値が小さいほど先、未設定は最後）に読み込むため、優先度の高いタスクから取得される。
+ * 他のワーカーが先に取得したタスクは条件に一致しないため、待たずに読み飛ばされる。
+ * 取得ごとに発行するトークンで完了・解放を条件付けるため、リース期限切れで他のワーカーに
+ * 再取得されたタスクを元のワーカーが上書きすることはない。
+ * IDの範囲をノード間で割り当てる必要はなく、ワーカーを増やすだけで処理を分担できる。
+ */
+@Component
+public class TaskWorkQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWorkQueue.class);
+
+    // 他のワーカーとの競合で1件も取得できなかった場合の再試行回数
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private static final String CANDIDATES_SQL = "SELECT id FROM task "
+            + "WHERE processed = FALSE AND (claim_expires_at IS NULL OR claim_expires_at < :now) "
+            + "ORDER BY priority ASC NULLS LAST, id LIMIT :limit";
+
+    private static final String CLAIM_SQL = "UPDATE task "
+            + "SET claim_owner = :owner, claim_token = :token, claim_expires_at = :expiresAt "
+            + "WHERE id IN (:ids) AND processed = FALSE AND (claim_expires_at IS NULL OR claim_expires_at < :now)";
+
+    private static final String CLAIMED_SQL = "SELECT id, task_name, description, priority, status, processed, processed_at, "
+            + "claim_owner, claim_token, claim_expires_at FROM task WHERE id IN (:ids) AND claim_token = :token "
+            + "ORDER BY priority ASC NULLS LAST, id";
+
+    private static final String COMPLETE_SQL = "UPDATE task "
+            + "SET task_name = :taskName, status = :status, processed = TRUE, processed_at = :processedAt, "
+            + "claim_owner = NULL, claim_token = NULL, claim_expires_at = NULL "
+            + "WHERE id = :id AND claim_token = :token";
+
+    private static final String RELEASE_SQL = "UPDATE task "
+            + "SET claim_owner = NULL, claim_token = NULL, claim_expires_at = NULL "
+            + "WHERE id IN (:ids) AND claim_token = :token";
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> {
+        Task task = new Task();
+        task.setId(rs.getLong("id"));
+        task.setTaskName(rs.getString("task_name"));
+        task.setDescription(rs.getString("description"));
+        task.setPriority(rs.getObject("priority", Integer.class));
+        task.setStatus(rs.getString("status"));
+        task.setProcessed(rs.getBoolean("processed"));
+        task.setProcessedAt(rs.getObject("processed_at", LocalDateTime.class));
+        task.setClaimOwner(rs.getString("claim_owner"));
+        task.setClaimToken(rs.getString("claim_token"));
+        task.setClaimExpiresAt(rs.getObject("claim_expires_at", LocalDateTime.class));
+        return task;
+    };
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    /**
+     * このワーカーの識別子
+     */
+    public String getWorkerId() {
+        String workerId = batchProperties.getWorker().getId();
+        return workerId != null && !workerId.isBlank() ? workerId : ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * 未処理タスクを取得
+     * <p>
+     * 他のワーカーが取得のUPDATEで待たされないよう、取得は独立したトランザクションで即座にコミットする。
+     *
+     * @param limit 最大取得件数
+     * @return 取得したタスク。取得できるタスクがない場合は空のタスク一覧を持つ取得結果
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public TaskClaim claim(int limit) {
+        BatchProperties.Worker settings = batchProperties.getWorker();
+        String owner = getWorkerId();
+        String token = UUID.randomUUID().toString();
+
+        for (int attempt = 1; attempt <= MAX_CLAIM_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> candidates = new ArrayList<>(namedParameterJdbcTemplate.queryForList(CANDIDATES_SQL,
+                    Map.of("now", Timestamp.valueOf(now), "limit", limit * Math.max(1, settings.getCandidateFactor())),
+                    Long.class));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Collections.shuffle(candidates);
+            List<Long> ids = candidates.subList(0, Math.min(limit, candidates.size()));
+
+            int claimed = namedParameterJdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+                    .addValue("owner", owner)
+                    .addValue("token", token)
+                    .addValue("expiresAt", Timestamp.valueOf(now.plus(settings.getLeaseDuration())))
+                    .addValue("ids", ids)
+                    .addValue("now", Timestamp.valueOf(now)));
+            if (claimed > 0) {
+                List<Task> tasks = namedParameterJdbcTemplate.query(CLAIMED_SQL,
+                        Map.of("ids", ids, "token", token), TASK_ROW_MAPPER);
+                logger.debug("タスクを取得しました - ワーカー: {}, 件数: {}, 試行: {}", owner, tasks.size(), attempt);
+                return new TaskClaim(owner, token, tasks);
+            }
+        }
+        return new TaskClaim(owner, token, List.of());
+    }
+
+    /**
+     * 処理したタスクを完了として保存し、リースを解除
+     * <p>
+     * 呼び出し元のトランザクションで実行するため、タスクの更新と統計の記録は一緒にコミットされる。
+     * リース期限切れで他のワーカーに再取得されたタスクは更新しない。
+     *
+     * @return 完了として保存した件数
+     */
+    @Transactional
+    public int complete(TaskClaim claim, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] parameters = tasks.stream()
+                .map(task -> new MapSqlParameterSource()
+                        .addValue("taskName", task.getTaskName())
+                        .addValue("status", task.getStatus())
+                        .addValue("processedAt", task.getProcessedAt() != null
+                                ? Timestamp.valueOf(task.getProcessedAt()) : null)
+                        .addValue("id", task.getId())
+                        .addValue("token", claim.token()))
+                .toArray(SqlParameterSource[]::new);
+        int completed = Arrays.stream(namedParameterJdbcTemplate.batchUpdate(COMPLETE_SQL, parameters))
+                .map(count -> Math.max(count, 0))
+                .sum();
+
+        if (completed != tasks.size()) {
+            logger.warn("リース期限切れのため完了できなかったタスクがあります - ワーカー: {}, 対象: {}, 完了: {}",
+                    claim.owner(), tasks.size(), completed);
+        }
+        taskStatisticsService.record(0, completed);
+        return completed;
+    }
+
+    /**
+     * 取得したタスクを処理せずに解放し、他のワーカーが即座に取得できるようにする
+     *
+     * @return 解放した件数
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(TaskClaim claim) {
+        if (claim.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(RELEASE_SQL,
+                Map.of("ids", claim.taskIds(), "token", claim.token()));
+    }
+
+    /**
+     * 1回の取得結果
+     *
+     * @param owner 取得したワーカー
+     * @param token 取得ごとに発行するトークン。完了・解放の条件に使用する
+     * @param tasks 取得したタスク
+     */
+    public record TaskClaim(String owner, String token, List<Task> tasks) {
+
+        public boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        public List<Long> taskIds() {
+            return tasks.stream().map(Task::getId).toList();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springbatch.worker;
+
+import com.example.springbatch.config.TaskWorkerJobConfig;
+import com.example.springbatch.service.JobService;
+import com.example.springbatch.service.RunningExecutionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ワーカーモードで `taskWorkerJob` を定期的に起動するコンポーネント
+ * <p>
+ * {@code app.batch.worker.enabled} が有効な場合のみ登録される。Jobは {@code asyncJobLauncher} で非同期に起動し、
+ * このノードで `taskWorkerJob` が実行中の間（{@link RunningExecutionRegistry} で確認）は次のJobを起動しないため、
+ * Jobが未処理タスクを処理し尽くして終了してから {@code app.batch.worker.idle-interval} 後に次の取得を始める。
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.batch.worker", name = "enabled", havingValue = "true")
+public class TaskWorkerLauncher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWorkerLauncher.class);
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private TaskWorkQueue taskWorkQueue;
+
+    @Autowired
+    private RunningExecutionRegistry runningExecutionRegistry;
+
+    @Scheduled(fixedDelayString = "#{@batchProperties.worker.idleInterval.toMillis()}")
+    public void launch() {
+        // 他ノードのワーカーJobは含めず、このノードのJobの終了だけを待つ
+        if (runningExecutionRegistry.hasLocalExecutions(TaskWorkerJobConfig.JOB_NAME)) {
+            return;
+        }
+
+        try {
+            // 複数ノードが同時に起動しても別のJobインスタンスになるよう、ワーカーの識別子を含める
+            jobService.startJobAsync(TaskWorkerJobConfig.JOB_NAME, new JobParametersBuilder()
+                    .addString("workerId", taskWorkQueue.getWorkerId())
+                    .toJobParameters());
+        } catch (Exception e) {
+            logger.error("ワーカーJobの起動に失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.springbatch.worker;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.item.TaskProcessingItemProcessor;
+import com.example.springbatch.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link TaskWorkQueue} から未処理タスクを取得して処理するTasklet。
+ * <p>
+ * 1回の実行で {@code app.batch.worker.batch-size} 件を取得・処理・完了し、取得できるタスクがなくなると終了する。
+ * 処理に失敗した場合は取得したタスクを解放してから例外を再送出する。
+ * 完了前にプロセスが停止した場合、取得したタスクはリース期限切れ後に他のワーカーが再取得する。
+ */
+@Component
+public class TaskWorkerTasklet implements Tasklet {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWorkerTasklet.class);
+
+    @Autowired
+    private TaskWorkQueue taskWorkQueue;
+
+    @Autowired
+    private TaskProcessingItemProcessor taskProcessingItemProcessor;
+
+    @Autowired
+    private BatchProperties batchProperties;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        TaskWorkQueue.TaskClaim claim = taskWorkQueue.claim(batchProperties.getWorker().getBatchSize());
+        if (claim.isEmpty()) {
+            logger.info("取得できる未処理タスクがありません - ワーカー: {}", claim.owner());
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Task> processed = new ArrayList<>(claim.tasks().size());
+        try {
+            for (Task task : claim.tasks()) {
+                processed.add(taskProcessingItemProcessor.process(task));
+            }
+        } catch (Exception e) {
+            int released = taskWorkQueue.release(claim);
+            logger.warn("タスク処理に失敗したため取得したタスクを解放しました - ワーカー: {}, 件数: {}", claim.owner(), released);
+            throw e;
+        }
+
+        int completed = taskWorkQueue.complete(claim, processed);
+        contribution.incrementWriteCount(completed);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.springbatch;
+
+import com.example.springbatch.config.AdaptiveExecutorController;
+import com.example.springbatch.config.AdaptiveExecutorController.Decision;
+import com.example.springbatch.config.BatchProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * スレッド数の自動調整が、待機時間・CPU使用率・スループットの伸びに応じて増減を判定することを検証するテスト。
+ */
+class AdaptiveExecutorControllerTest {
+
+    private final BatchProperties.Adaptive settings = settings();
+
+    @Test
+    void growsWhenTasksWaitLongerThanTarget() {
+        assertThat(AdaptiveExecutorController.decide(2, 250.0, 5, 2, 0.3, false, settings)).isEqualTo(Decision.GROW);
+        // 前回増やしてもスループットが伸びなかった場合は据え置く
+        assertThat(AdaptiveExecutorController.decide(2, 250.0, 5, 2, 0.3, true, settings)).isEqualTo(Decision.HOLD);
+        // 上限に達している場合は据え置く
+        assertThat(AdaptiveExecutorController.decide(8, 250.0, 5, 8, 0.3, false, settings)).isEqualTo(Decision.HOLD);
+    }
+
+    @Test
+    void shrinksWhenCpuIsSaturatedOrThreadsAreIdle() {
+        assertThat(AdaptiveExecutorController.decide(4, 250.0, 5, 4, 0.95, false, settings)).isEqualTo(Decision.SHRINK);
+        assertThat(AdaptiveExecutorController.decide(4, 0.0, 0, 1, 0.3, false, settings)).isEqualTo(Decision.SHRINK);
+        // 下限に達している場合は据え置く
+        assertThat(AdaptiveExecutorController.decide(1, 0.0, 0, 0, 0.3, false, settings)).isEqualTo(Decision.HOLD);
+    }
+
+    private static BatchProperties.Adaptive settings() {
+        BatchProperties.Adaptive settings = new BatchProperties.Adaptive();
+        settings.setEnabled(true);
+        settings.setMinPoolSize(1);
+        settings.setMaxPoolSize(8);
+        settings.setTargetQueueWait(Duration.ofMillis(100));
+        settings.setMaxCpuLoad(0.85);
+        settings.setStep(1);
+        return settings;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.JobExecutionSummary;
+import com.example.springbatch.service.JobExecutionHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Job実行履歴がJob名・ステータスで絞り込まれ、実行IDの降順でページングされることを検証するテスト。
+ */
+@SpringBootTest
+class JobExecutionHistoryServiceTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private JobExecutionHistoryService jobExecutionHistoryService;
+
+    @Test
+    void pagesExecutionsByDescendingIdWithFilters() throws Exception {
+        Job job = jobRegistry.getJob("taskChunkJob");
+        JobExecution older = jobLauncher.run(job, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addString("run", "older")
+                .toJobParameters());
+        JobExecution newer = jobLauncher.run(job, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addString("run", "newer")
+                .toJobParameters());
+
+        List<JobExecutionSummary> firstPage = jobExecutionHistoryService.findExecutions(
+                "taskChunkJob", BatchStatus.COMPLETED, null, 1);
+        assertThat(firstPage).extracting(JobExecutionSummary::getId).containsExactly(newer.getId());
+        assertThat(firstPage.get(0).getJobName()).isEqualTo("taskChunkJob");
+
+        List<JobExecutionSummary> secondPage = jobExecutionHistoryService.findExecutions(
+                "taskChunkJob", BatchStatus.COMPLETED, firstPage.get(0).getId(), 1);
+        assertThat(secondPage).extracting(JobExecutionSummary::getId).containsExactly(older.getId());
+
+        assertThat(jobExecutionHistoryService.findExecutions("taskChunkJob", BatchStatus.FAILED, null, 10))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.springbatch;
+
+import com.example.springbatch.config.JobExecutorRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * `app.batch.jobs.<Job名>.executor` を設定したJobに専用の実行器が割り当てられ、Job名のタグでメトリクスが記録されることを検証するテスト。
+ */
+@SpringBootTest(properties = {
+        "app.batch.jobs.testJob.executor.core-pool-size=1",
+        "app.batch.jobs.testJob.executor.max-pool-size=1",
+        "app.batch.jobs.testJob.executor.queue-capacity=1"
+})
+@DirtiesContext
+class JobExecutorRegistryTest {
+
+    @Autowired
+    private JobExecutorRegistry jobExecutorRegistry;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void assignsBulkheadToConfiguredJobOnly() {
+        assertThat(jobExecutorRegistry.getExecutor("testJob")).isNotSameAs(taskExecutor);
+        assertThat(jobExecutorRegistry.getExecutor("singleAsyncJob")).isSameAs(taskExecutor);
+        assertThat(meterRegistry.find("batch.executor.queued").tag("name", "testJob").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.LaunchTicket;
+import com.example.springbatch.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.example.springbatch.JobTestSupport.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 一括起動が同時実行数の上限を超える分を起動待ちにし、実行中のJobの終了後に順に起動すること、
+ * 一括起動以外で起動した実行中のJobも上限に数えることを検証するテスト。
+ */
+@SpringBootTest(properties = "app.batch.jobs.testJob.max-concurrent-executions=1")
+@DirtiesContext
+class JobLaunchCoordinatorTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void queuesLaunchesBeyondMaxConcurrentExecutions() throws Exception {
+        awaitNoRunningTestJob();
+        List<JobParameters> parameterSets = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> new JobParametersBuilder().addLong("run", (long) i).toJobParameters())
+                .toList();
+
+        List<LaunchTicket> tickets = jobService.startJobs("testJob", parameterSets);
+
+        assertThat(tickets).extracting(LaunchTicket::getStatus)
+                .containsExactly(LaunchTicket.Status.STARTED, LaunchTicket.Status.QUEUED, LaunchTicket.Status.QUEUED);
+
+        await("全てのJob実行の終了", Duration.ofSeconds(30), () -> allFinished(tickets));
+
+        List<JobExecution> executions = tickets.stream()
+                .map(ticket -> jobService.getJobExecution(ticket.getExecutionId()))
+                .sorted(Comparator.comparing(JobExecution::getStartTime))
+                .toList();
+        assertThat(executions).extracting(JobExecution::getStatus).containsOnly(BatchStatus.COMPLETED);
+        // 上限1のため、前のJob実行の終了後に次のJob実行が開始している
+        for (int i = 1; i < executions.size(); i++) {
+            assertThat(executions.get(i).getStartTime()).isAfterOrEqualTo(executions.get(i - 1).getEndTime());
+        }
+    }
+
+    @Test
+    void countsExecutionsStartedOutsideTheCoordinator() throws Exception {
+        awaitNoRunningTestJob();
+        Long singleExecutionId = jobService.startJobAsync("testJob");
+
+        List<LaunchTicket> tickets = jobService.startJobs("testJob",
+                List.of(new JobParametersBuilder().addLong("run", 1L).toJobParameters()));
+
+        // 開始APIで起動したJobが上限1を占めているため、一括起動の要求は起動待ちになる
+        assertThat(tickets).extracting(LaunchTicket::getStatus).containsExactly(LaunchTicket.Status.QUEUED);
+
+        await("全てのJob実行の終了", Duration.ofSeconds(30), () -> allFinished(tickets));
+        JobExecution single = jobService.getJobExecution(singleExecutionId);
+        JobExecution queued = jobService.getJobExecution(tickets.get(0).getExecutionId());
+        assertThat(queued.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(queued.getStartTime()).isAfterOrEqualTo(single.getEndTime());
+    }
+
+    private void awaitNoRunningTestJob() throws InterruptedException {
+        await("実行中のtestJobの終了", Duration.ofSeconds(30),
+                () -> jobService.getRunningJobExecutions("testJob").isEmpty());
+    }
+
+    private boolean allFinished(List<LaunchTicket> tickets) {
+        return tickets.stream().allMatch(ticket -> ticket.getExecutionId() != null
+                && !jobService.getJobExecution(ticket.getExecutionId()).isRunning());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.springbatch;
+
+import com.example.springbatch.service.JobService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static com.example.springbatch.JobTestSupport.awaitFinished;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 起動用の実行器が同時実行数の上限に達している場合、Job開始APIが待たずに503を返し、
+ * 実行中のJobはそのまま完了することを検証するテスト。
+ */
+@SpringBootTest(properties = "app.batch.launcher.concurrency-limit=1")
+@DirtiesContext
+@AutoConfigureMockMvc
+class JobLauncherConcurrencyLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void startBeyondLauncherLimitReturnsServiceUnavailable() throws Exception {
+        String body = mockMvc.perform(post("/api/jobs/{jobName}/start", "testJob"))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long executionId = ((Number) JsonPath.read(body, "$.executionId")).longValue();
+
+        // testJobが起動用のスレッドを占有している間は、別のJobも起動できない
+        mockMvc.perform(post("/api/jobs/{jobName}/start", "singleAsyncJob"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(awaitFinished(jobService, executionId, Duration.ofSeconds(30)).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.springbatch;
+
+import com.example.springbatch.config.BatchProperties;
+import com.example.springbatch.scheduler.JobScheduleTrigger;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * スケジュールのTriggerが、停止中に過ぎた予定起動時刻をまとめて1回起動し、揺らぎで周期がずれないことを検証するテスト。
+ */
+class JobScheduleTriggerTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:30:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    void coalescesMissedFiresIntoOneImmediateRun() {
+        BatchProperties.Schedule schedule = cron("0 0 * * * *", BatchProperties.MisfirePolicy.COALESCE);
+        // 前回の起動は3時間前。7:00以降の8:00・9:00・10:00を過ぎている
+        JobScheduleTrigger trigger = new JobScheduleTrigger(schedule, Instant.parse("2024-01-01T07:00:00Z"), clock);
+
+        assertThat(trigger.nextExecution(new SimpleTriggerContext())).isEqualTo(NOW);
+        assertThat(trigger.isMisfired()).isTrue();
+        assertThat(trigger.getScheduledTime()).isEqualTo(Instant.parse("2024-01-01T10:00:00Z"));
+
+        assertThat(trigger.nextExecution(new SimpleTriggerContext())).isEqualTo(Instant.parse("2024-01-01T11:00:00Z"));
+        assertThat(trigger.isMisfired()).isFalse();
+    }
+
+    @Test
+    void skipsMissedFiresWhenConfigured() {
+        BatchProperties.Schedule schedule = cron("0 0 * * * *", BatchProperties.MisfirePolicy.SKIP);
+        JobScheduleTrigger trigger = new JobScheduleTrigger(schedule, Instant.parse("2024-01-01T07:00:00Z"), clock);
+
+        assertThat(trigger.nextExecution(new SimpleTriggerContext())).isEqualTo(Instant.parse("2024-01-01T11:00:00Z"));
+        assertThat(trigger.isMisfired()).isFalse();
+    }
+
+    @Test
+    void jitterDoesNotShiftFixedRatePeriod() {
+        BatchProperties.Schedule schedule = new BatchProperties.Schedule();
+        schedule.setFixedRate(Duration.ofMinutes(10));
+        schedule.setJitter(Duration.ofSeconds(30));
+        JobScheduleTrigger trigger = new JobScheduleTrigger(schedule, null, clock);
+
+        for (int i = 1; i <= 3; i++) {
+            Instant scheduled = NOW.plus(Duration.ofMinutes(10L * i));
+            Instant next = trigger.nextExecution(new SimpleTriggerContext());
+            assertThat(trigger.getScheduledTime()).isEqualTo(scheduled);
+            assertThat(next).isBetween(scheduled, scheduled.plusSeconds(30));
+            // 揺らぎの分だけ遅れて起動した後に次の起動時刻を求める
+            clock.set(next);
+        }
+    }
+
+    private static BatchProperties.Schedule cron(String expression, BatchProperties.MisfirePolicy misfirePolicy) {
+        BatchProperties.Schedule schedule = new BatchProperties.Schedule();
+        schedule.setCron(expression);
+        schedule.setZone("UTC");
+        schedule.setMisfirePolicy(misfirePolicy);
+        return schedule;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
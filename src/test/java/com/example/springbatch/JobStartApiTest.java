@@ -0,0 +1,116 @@
+package com.example.springbatch;
+
+import com.example.springbatch.service.JobService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static com.example.springbatch.JobTestSupport.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Job開始APIがJobの完了を待たずに202と実行ID、ステータスURLを返すこと、
+ * 同じJobへの同時の開始要求では1回だけ起動すること、
+ * 既定の実行器設定で異なるJobを同時に起動しても両方が完了することを検証するテスト。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JobStartApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void startReturnsAcceptedWithStatusLocation() throws Exception {
+        awaitNoRunningJobs();
+
+        mockMvc.perform(post("/api/jobs/testJob/start"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.executionId", notNullValue()))
+                .andExpect(header().string("Location", matchesPattern(".*/api/jobs/\\d+/status")));
+    }
+
+    @Test
+    void startUnknownJobReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/jobs/unknownJob/start"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void concurrentStartsOfSameJobLaunchOnce() throws Exception {
+        awaitNoRunningJobs();
+
+        // 実行中の確認と起動の間に他の要求が割り込むと、両方の要求でJobが起動される
+        List<CompletableFuture<Integer>> responses = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return mockMvc.perform(post("/api/jobs/testJob/start")).andReturn().getResponse().getStatus();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }))
+                .toList();
+
+        assertThat(responses).extracting(CompletableFuture::join)
+                .containsOnlyOnce(HttpStatus.ACCEPTED.value())
+                .containsOnly(HttpStatus.ACCEPTED.value(), HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void restartUnknownExecutionReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/jobs/{executionId}/restart", Long.MAX_VALUE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void concurrentJobsOfDifferentNamesComplete() throws Exception {
+        awaitNoRunningJobs();
+
+        // Job本体が業務処理の実行器のスレッドを占有すると、業務処理が実行されずにどちらのJobも終わらない
+        List<Long> executionIds = List.of(start("singleAsyncJob"), start("testJob"));
+
+        await("両方のJob実行の終了", Duration.ofSeconds(30), () -> executionIds.stream()
+                .noneMatch(executionId -> jobService.getJobExecution(executionId).isRunning()));
+
+        assertThat(executionIds).extracting(executionId -> jobService.getJobExecution(executionId))
+                .extracting(JobExecution::getStatus)
+                .containsOnly(BatchStatus.COMPLETED);
+    }
+
+    private Long start(String jobName) throws Exception {
+        String body = mockMvc.perform(post("/api/jobs/{jobName}/start", jobName))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return ((Number) JsonPath.read(body, "$.executionId")).longValue();
+    }
+
+    // 他のテストで起動したJobが実行中の場合、同じJobの開始APIは400を返すため終了を待つ
+    private void awaitNoRunningJobs() throws InterruptedException {
+        await("実行中のJobの終了", Duration.ofSeconds(30), () -> !jobService.hasRunningJobs());
+    }
+}
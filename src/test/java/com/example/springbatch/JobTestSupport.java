@@ -0,0 +1,48 @@
+package com.example.springbatch;
+
+import com.example.springbatch.service.JobService;
+import org.springframework.batch.core.JobExecution;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Jobを非同期で実行するテストの共通処理。
+ * <p>
+ * 待機は経過時間ではなく観測できる状態（Job実行のステータスやJobRepositoryに保存された値）で判定し、
+ * 期限までに条件を満たさない場合はテストを失敗させる。
+ */
+final class JobTestSupport {
+
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private JobTestSupport() {
+    }
+
+    /**
+     * 条件を満たすまで待機する
+     *
+     * @param description 条件の説明（期限切れ時のメッセージに使用）
+     * @param timeout     待機する期限
+     * @param condition   待機する条件
+     */
+    static void await(String description, Duration timeout, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new AssertionError(timeout.toSeconds() + "秒以内に条件を満たしませんでした: " + description);
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    /**
+     * Job実行が終了するまで待機し、終了後のJob実行を返す
+     */
+    static JobExecution awaitFinished(JobService jobService, Long executionId, Duration timeout)
+            throws InterruptedException {
+        await("Job実行 " + executionId + " の終了", timeout,
+                () -> !jobService.getJobExecution(executionId).isRunning());
+        return jobService.getJobExecution(executionId);
+    }
+}
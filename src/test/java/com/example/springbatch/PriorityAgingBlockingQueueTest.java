@@ -0,0 +1,74 @@
+package com.example.springbatch;
+
+import com.example.springbatch.concurrent.PrioritizedTask;
+import com.example.springbatch.concurrent.PriorityAgingBlockingQueue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 優先度順のキューが優先度の高いタスクを先に取り出し、待機の長いタスクをエージングで追い越させないことを検証するテスト。
+ */
+class PriorityAgingBlockingQueueTest {
+
+    private static final Duration AGING_INTERVAL = Duration.ofSeconds(1);
+
+    @Test
+    void pollsHigherPriorityFirstAndKeepsSubmissionOrderWithinPriority() {
+        PriorityAgingBlockingQueue queue = new PriorityAgingBlockingQueue(10, AGING_INTERVAL, 2);
+        long now = System.nanoTime();
+        queue.offer(new QueuedTask("low", 3, now));
+        queue.offer(new QueuedTask("unspecified", null, now));
+        queue.offer(new QueuedTask("high-1", 1, now));
+        queue.offer(new QueuedTask("high-2", 1, now));
+
+        assertThat(drainNames(queue)).containsExactly("high-1", "high-2", "unspecified", "low");
+    }
+
+    @Test
+    void agedLowPriorityTaskPrecedesNewerHighPriorityTasks() {
+        PriorityAgingBlockingQueue queue = new PriorityAgingBlockingQueue(10, AGING_INTERVAL, 2);
+        long now = System.nanoTime();
+        // 優先度3のタスクが3秒待機している間に、優先度1のタスクが投入され続けた場合
+        queue.offer(new QueuedTask("aged-low", 3, now - Duration.ofSeconds(3).toNanos()));
+        queue.offer(new QueuedTask("new-high", 1, now));
+
+        assertThat(drainNames(queue)).containsExactly("aged-low", "new-high");
+    }
+
+    @Test
+    void rejectsOffersBeyondCapacity() {
+        PriorityAgingBlockingQueue queue = new PriorityAgingBlockingQueue(1, AGING_INTERVAL, 2);
+
+        assertThat(queue.offer(new QueuedTask("first", 1, System.nanoTime()))).isTrue();
+        assertThat(queue.offer(new QueuedTask("second", 1, System.nanoTime()))).isFalse();
+        assertThat(queue.remainingCapacity()).isZero();
+    }
+
+    private static List<String> drainNames(PriorityAgingBlockingQueue queue) {
+        List<Runnable> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        return drained.stream().map(task -> ((QueuedTask) task).name()).toList();
+    }
+
+    private record QueuedTask(String name, Integer priority, long submittedAt) implements PrioritizedTask {
+
+        @Override
+        public Integer getPriority() {
+            return priority;
+        }
+
+        @Override
+        public long getSubmittedAt() {
+            return submittedAt;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+}
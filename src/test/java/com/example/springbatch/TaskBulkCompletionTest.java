@@ -0,0 +1,66 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.service.TaskCompletionService;
+import com.example.springbatch.service.TaskStatisticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 一括完了が未処理タスクのみを更新し、更新件数を返して統計に記録することを検証するテスト。
+ */
+@SpringBootTest
+@Transactional
+class TaskBulkCompletionTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionService taskCompletionService;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Test
+    void completesUnprocessedTasksByIdsAndRange() {
+        taskRepository.deleteAll();
+        taskStatisticsService.reset();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", 1));
+        }
+        List<Long> ids = taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+        taskStatisticsService.rebuild();
+
+        int byIds = taskCompletionService.completeByIds(ids.subList(0, 3), "COMPLETED", LocalDateTime.now());
+        int byRange = taskCompletionService.completeByIdRange(ids.get(0), ids.get(5), "COMPLETED", LocalDateTime.now());
+
+        assertThat(byIds).isEqualTo(3);
+        assertThat(byRange).isEqualTo(3);
+        assertThat(taskRepository.countProcessed()).isEqualTo(6);
+        assertThat(taskStatisticsService.getSnapshot().processedCount()).isEqualTo(6);
+        // 一括完了は永続化コンテキストをクリアしないため、保存時のタスクを切り離してから読み直す
+        entityManager.clear();
+        assertThat(taskRepository.findById(ids.get(0)))
+                .hasValueSatisfying(task -> {
+                    assertThat(task.getProcessed()).isTrue();
+                    assertThat(task.getStatus()).isEqualTo("COMPLETED");
+                    assertThat(task.getProcessedAt()).isNotNull();
+                });
+    }
+}
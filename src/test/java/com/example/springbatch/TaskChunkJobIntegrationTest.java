@@ -0,0 +1,150 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.service.TaskStatisticsService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * `taskChunkJob` が未処理タスクを全件チャンク処理すること、優先度で分割した場合や優先度順に読み込む場合も
+ * 優先度が未設定のタスクを含めて全件処理することを検証するテスト。
+ */
+@SpringBootTest
+class TaskChunkJobIntegrationTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Test
+    void processesAllUnprocessedTasksInChunks() throws Exception {
+        taskRepository.deleteAll();
+        taskStatisticsService.reset();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", (i % 3) + 1));
+        }
+        taskRepository.saveAll(tasks);
+
+        Job job = jobRegistry.getJob("taskChunkJob");
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(250);
+        assertThat(taskRepository.countUnprocessed()).isZero();
+        assertThat(taskRepository.findAll())
+                .allSatisfy(task -> assertThat(task.getTaskName()).startsWith("TASK-"));
+    }
+
+    @Nested
+    @SpringBootTest(properties = "app.batch.jobs.taskChunkJob.partition.strategy=priority")
+    @DirtiesContext
+    class PriorityPartitioned {
+
+        // 外側のテストクラスとは別のコンテキストのため、このクラスで注入する
+        @Autowired
+        private JobLauncher jobLauncher;
+
+        @Autowired
+        private JobRegistry jobRegistry;
+
+        @Autowired
+        private TaskRepository taskRepository;
+
+        @Autowired
+        private TaskStatisticsService taskStatisticsService;
+
+        @Test
+        void processesTasksWithoutPriorityInTheirOwnPartition() throws Exception {
+            taskRepository.deleteAll();
+            taskStatisticsService.reset();
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 1; i <= 90; i++) {
+                // 3件に1件は優先度を設定しない
+                tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", i % 3 == 0 ? null : (i % 2) + 1));
+            }
+            taskRepository.saveAll(tasks);
+
+            JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob("taskChunkJob"),
+                    new JobParametersBuilder().addLong("time", System.currentTimeMillis()).toJobParameters());
+
+            assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(jobExecution.getStepExecutions())
+                    .extracting(StepExecution::getStepName)
+                    .anySatisfy(stepName -> assertThat(stepName).endsWith(":priorityNull"));
+            assertThat(taskRepository.countUnprocessed()).isZero();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "app.batch.chunk.read-order=priority",
+            "app.batch.chunk.page-size=10"
+    })
+    @DirtiesContext
+    class PriorityReadOrder {
+
+        // 外側のテストクラスとは別のコンテキストのため、このクラスで注入する
+        @Autowired
+        private JobLauncher jobLauncher;
+
+        @Autowired
+        private JobRegistry jobRegistry;
+
+        @Autowired
+        private TaskRepository taskRepository;
+
+        @Autowired
+        private TaskStatisticsService taskStatisticsService;
+
+        @Test
+        void readsEveryPriorityPageByPageAndThenTasksWithoutPriority() throws Exception {
+            taskRepository.deleteAll();
+            taskStatisticsService.reset();
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 1; i <= 95; i++) {
+                // 優先度ごとに複数ページとなる件数。5件に1件は優先度を設定しない
+                tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", i % 5 == 0 ? null : 3 - (i % 3)));
+            }
+            taskRepository.saveAll(tasks);
+
+            JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob("taskChunkJob"),
+                    new JobParametersBuilder().addLong("time", System.currentTimeMillis()).toJobParameters());
+
+            assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(jobExecution.getStepExecutions().iterator().next().getReadCount()).isEqualTo(95);
+            assertThat(taskRepository.countUnprocessed()).isZero();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.tasklet.TaskDataGeneratorTasklet;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * `taskDataGeneratorJob` が指定件数・分布のTaskを生成することを検証するテスト。
+ */
+@SpringBootTest
+class TaskDataGeneratorJobIntegrationTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void generatesRequestedRowsWithDistribution() throws Exception {
+        taskRepository.save(new Task("Old-Task", "削除される既存データ", 1));
+
+        Job job = jobRegistry.getJob("taskDataGeneratorJob");
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong(TaskDataGeneratorTasklet.ROWS, 2500L)
+                .addString(TaskDataGeneratorTasklet.PRIORITY_WEIGHTS, "0,1")
+                .addDouble(TaskDataGeneratorTasklet.PROCESSED_RATIO, 1.0)
+                .addLong(TaskDataGeneratorTasklet.SEED, 42L)
+                .addString(TaskDataGeneratorTasklet.TRUNCATE, "true")
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        JobExecution jobExecution = jobLauncher.run(job, jobParameters);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(2500);
+        assertThat(stepExecution.getExecutionContext().getLong(TaskDataGeneratorTasklet.GENERATED_ROWS_KEY))
+                .isEqualTo(2500L);
+        assertThat(taskRepository.count()).isEqualTo(2500);
+        assertThat(taskRepository.countProcessed()).isEqualTo(2500);
+        assertThat(taskRepository.findAll())
+                .allSatisfy(task -> assertThat(task.getPriority()).isEqualTo(2));
+    }
+}
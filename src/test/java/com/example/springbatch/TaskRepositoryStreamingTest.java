@@ -0,0 +1,79 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.service.TaskStatisticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * `TaskRepository` のストリーミング検索とキーセットページング検索を検証するテスト。
+ */
+@SpringBootTest
+@Transactional
+class TaskRepositoryStreamingTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void streamsUnprocessedTasksWithoutKeepingThemInPersistenceContext() {
+        taskRepository.deleteAll();
+        taskStatisticsService.reset();
+        saveTasks(30);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Task> tasks = taskRepository.streamUnprocessed()) {
+            tasks.forEach(task -> {
+                assertThat(entityManager.contains(task)).isFalse();
+                ids.add(task.getId());
+            });
+        }
+
+        assertThat(ids).hasSize(30).isSorted();
+    }
+
+    @Test
+    void pagesTasksByPriorityWithKeyset() {
+        taskRepository.deleteAll();
+        taskStatisticsService.reset();
+        saveTasks(30);
+
+        List<Long> ids = new ArrayList<>();
+        long afterId = 0L;
+        List<Task> page;
+        while (!(page = taskRepository.findByPriorityAndIdGreaterThanOrderByIdAsc(1, afterId, PageRequest.of(0, 4))).isEmpty()) {
+            page.forEach(task -> ids.add(task.getId()));
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        assertThat(ids).hasSize(10).isSorted().doesNotHaveDuplicates();
+    }
+
+    private void saveTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", (i % 3) + 1));
+        }
+        taskRepository.saveAll(tasks);
+    }
+}
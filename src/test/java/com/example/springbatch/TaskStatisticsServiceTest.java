@@ -0,0 +1,60 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.service.TaskStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * チャンク処理の書き込みでタスク統計が増分更新され、実際の件数と一致することを検証するテスト。
+ */
+@SpringBootTest
+class TaskStatisticsServiceTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JobRegistry jobRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Test
+    void keepsCountsInSyncWithChunkWrites() throws Exception {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", (i % 3) + 1));
+        }
+        taskRepository.saveAll(tasks);
+        taskStatisticsService.rebuild();
+
+        assertThat(taskStatisticsService.getSnapshot())
+                .isEqualTo(new TaskStatisticsService.Snapshot(120, 0));
+
+        JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob("taskChunkJob"),
+                new JobParametersBuilder().addLong("time", System.currentTimeMillis()).toJobParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        TaskStatisticsService.Snapshot snapshot = taskStatisticsService.getSnapshot();
+        assertThat(snapshot.totalCount()).isEqualTo(taskRepository.count());
+        assertThat(snapshot.processedCount()).isEqualTo(taskRepository.countProcessed()).isEqualTo(120);
+        assertThat(snapshot.unprocessedCount()).isZero();
+    }
+}
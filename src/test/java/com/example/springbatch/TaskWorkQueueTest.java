@@ -0,0 +1,68 @@
+package com.example.springbatch;
+
+import com.example.springbatch.model.Task;
+import com.example.springbatch.repository.TaskRepository;
+import com.example.springbatch.service.TaskStatisticsService;
+import com.example.springbatch.worker.TaskWorkQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * `TaskWorkQueue` の取得が重複せず、リース期限切れのタスクを再取得でき、
+ * 再取得されたタスクを元の取得結果で完了できないことを検証するテスト。
+ */
+@SpringBootTest
+class TaskWorkQueueTest {
+
+    @Autowired
+    private TaskWorkQueue taskWorkQueue;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatisticsService taskStatisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void claimsDisjointBatchesAndReclaimsExpiredLeases() {
+        taskRepository.deleteAll();
+        taskStatisticsService.reset();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            tasks.add(new Task("Task-" + i, "タスク" + i + "の説明", 1));
+        }
+        taskRepository.saveAll(tasks);
+
+        TaskWorkQueue.TaskClaim first = taskWorkQueue.claim(4);
+        TaskWorkQueue.TaskClaim second = taskWorkQueue.claim(4);
+
+        assertThat(first.tasks()).hasSize(4);
+        assertThat(second.tasks()).hasSize(4);
+        assertThat(first.taskIds()).doesNotContainAnyElementsOf(second.taskIds());
+
+        // 1つ目の取得結果のリースを期限切れにすると、残りの未取得分と合わせて再取得できる
+        jdbcTemplate.update("UPDATE task SET claim_expires_at = ? WHERE claim_token = ?",
+                LocalDateTime.now().minusMinutes(1), first.token());
+        TaskWorkQueue.TaskClaim reclaimed = taskWorkQueue.claim(10);
+
+        assertThat(reclaimed.tasks()).hasSize(6);
+        assertThat(reclaimed.taskIds()).containsAll(first.taskIds());
+
+        // 再取得されたタスクは元の取得結果では完了できない
+        assertThat(taskWorkQueue.complete(first, first.tasks())).isZero();
+        assertThat(taskWorkQueue.complete(second, second.tasks())).isEqualTo(4);
+        assertThat(taskWorkQueue.release(reclaimed)).isEqualTo(6);
+        assertThat(taskRepository.countProcessed()).isEqualTo(4);
+    }
+}
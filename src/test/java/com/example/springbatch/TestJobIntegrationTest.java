@@ -1,22 +1,40 @@
 package com.example.springbatch;
 
+import com.example.springbatch.service.JobService;
+import com.example.springbatch.service.JobStopManager;
+import com.example.springbatch.service.StopSignalPoller;
+import com.example.springbatch.tasklet.TestJobTasklet;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.springbatch.JobTestSupport.await;
+import static com.example.springbatch.JobTestSupport.awaitFinished;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * `testJob` が正常に起動し、完了ステータスを返すことを検証するテスト。
+ * `testJob` が正常に起動し、完了ステータスを返すこと、停止要求（他ノードからの停止を含む）で停止すること、
+ * 終了後に届いた停止要求で停止トークンが残らないこと、停止後の再実行がチェックポイントから再開することを検証するテスト。
+ * <p>
+ * チェックポイントを記録のたびに保存し、停止前に処理ステップを終えたことをJobRepositoryの値で確認する。
  */
-@SpringBootTest
+@SpringBootTest(properties = "app.batch.tasklet.checkpoint-interval=0s")
+@DirtiesContext
 class TestJobIntegrationTest {
 
     @Autowired
@@ -25,6 +43,18 @@ class TestJobIntegrationTest {
     @Autowired
     private JobRegistry jobRegistry;
 
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobStopManager jobStopManager;
+
+    @Autowired
+    private StopSignalPoller stopSignalPoller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void testJobLaunchesSuccessfully() throws Exception {
         Job job = jobRegistry.getJob("testJob");
@@ -37,4 +67,107 @@ class TestJobIntegrationTest {
 
         assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
     }
-}
+
+    @Test
+    void testJobStopsOnStopRequest() throws Exception {
+        CompletableFuture<JobExecution> execution = launchAsync();
+        Long executionId = awaitRunningExecutionId();
+
+        assertThat(jobService.stopJob(executionId)).isTrue();
+        JobExecution jobExecution = execution.get(10, TimeUnit.SECONDS);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        // Job終了時に停止トークンが破棄される
+        assertThat(jobStopManager.shouldStop(executionId)).isFalse();
+        assertThat(jobStopManager.getStoppedJobIds()).doesNotContain(executionId);
+    }
+
+    @Test
+    void testJobStopsOnStopRequestFromAnotherNode() throws Exception {
+        CompletableFuture<JobExecution> execution = launchAsync();
+        Long executionId = awaitRunningExecutionId();
+
+        // 他ノードの JobOperator#stop と同様に、JobRepository上のステータスだけを更新する
+        jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET STATUS = 'STOPPING' WHERE JOB_EXECUTION_ID = ?",
+                executionId);
+        stopSignalPoller.poll();
+
+        assertThat(jobStopManager.shouldStop(executionId)).isTrue();
+        JobExecution jobExecution = execution.get(10, TimeUnit.SECONDS);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.STOPPED);
+    }
+
+    @Test
+    void lateStopSignalDoesNotLeaveToken() throws Exception {
+        JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob("testJob"), new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // 停止シグナルの確認とJobの終了が競合し、終了後に停止要求が届いた場合
+        jobStopManager.setStopFlag(jobExecution.getId());
+
+        assertThat(jobStopManager.shouldStop(jobExecution.getId())).isFalse();
+        assertThat(jobStopManager.getStoppedJobIds()).isEmpty();
+    }
+
+    @Test
+    void testJobResumesFromCheckpointOnRestart() throws Exception {
+        CompletableFuture<JobExecution> execution = launchAsync();
+        Long executionId = awaitRunningExecutionId();
+        await("最初の処理ステップのチェックポイント", Duration.ofSeconds(10), () -> {
+            Long saved = completedSteps(jobService.getJobExecution(executionId));
+            return saved != null && saved >= 1;
+        });
+
+        assertThat(jobService.stopJob(executionId)).isTrue();
+        assertThat(execution.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(BatchStatus.STOPPED);
+        // 停止までに終えた処理ステップがチェックポイントとして保存されている
+        Long completedSteps = completedSteps(jobService.getJobExecution(executionId));
+        assertThat(completedSteps).isBetween(1L, 4L);
+
+        JobExecution restarted = jobService.restartJob(executionId);
+        JobExecution jobExecution = awaitFinished(jobService, restarted.getId(), Duration.ofSeconds(10));
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getJobInstance().getInstanceId())
+                .isEqualTo(jobService.getJobExecution(executionId).getJobInstance().getInstanceId());
+        assertThat(completedSteps(jobExecution)).isEqualTo(5L);
+    }
+
+    private Long completedSteps(JobExecution jobExecution) {
+        if (jobExecution.getStepExecutions().isEmpty()) {
+            return null;
+        }
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+        Object value = stepExecution.getExecutionContext().get("checkpoint." + TestJobTasklet.COMPLETED_STEPS_KEY);
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private CompletableFuture<JobExecution> launchAsync() throws Exception {
+        Job job = jobRegistry.getJob("testJob");
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return jobLauncher.run(job, jobParameters);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // Stepが開始済み（業務処理の投入前後）であることをJobRepositoryのステータスで確認してから返す
+    private Long awaitRunningExecutionId() throws InterruptedException {
+        await("testJobのStepの開始", Duration.ofSeconds(5), () -> {
+            List<JobExecution> running = jobService.getRunningJobExecutions("testJob");
+            return !running.isEmpty() && jobService.getJobExecution(running.get(0).getId()).getStepExecutions()
+                    .stream().anyMatch(stepExecution -> stepExecution.getStatus() == BatchStatus.STARTED);
+        });
+        return jobService.getRunningJobExecutions("testJob").get(0).getId();
+    }
+}
\ No newline at end of file